@@ -0,0 +1,76 @@
+package com.rest_assured.bench;
+
+import com.rest_assured.common.ApiUtils;
+import com.rest_assured.common.JsonResponse;
+import com.rest_assured.common.Payloads;
+import com.rest_assured.common.TokenManager;
+import com.rest_assured.constants.InputConstants;
+import com.rest_assured.model.Book;
+import com.rest_assured.stub.BookstoreStub;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Full ApiUtils round trips against BookstoreStub on loopback: spec,
+ * filters, pooled connection, serialization and extraction. Add threads with
+ * "-t 8" to see how the pool and filters scale.
+ */
+@State(Scope.Benchmark)
+public class EndToEndBenchmark {
+
+    private static final int CATALOG_SIZE = 100;
+    private static final int FIRST_ID = 1000;
+
+    private BookstoreStub bookstore;
+    private String token;
+    private byte[] newBook;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        bookstore = BookstoreStub.start();
+        for (int i = 0; i < CATALOG_SIZE; i++) {
+            int id = FIRST_ID + i;
+            bookstore.addBook(new Book(id, "Book_" + i, "Author_" + i, 1990 + i % 35, "This is a summary of book " + i));
+        }
+        bookstore.addUser(InputConstants.USERNAME, InputConstants.PASSWORD);
+        ApiUtils.setDefaultBaseUri(bookstore.baseUrl());
+        token = TokenManager.getToken();
+        // No id: the stub assigns the next one, as the service does
+        newBook = Payloads.toJson(new Book(null, "Book_new", "Author_new", 2020, "This is a summary of book new"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        bookstore.close();
+    }
+
+    @Benchmark
+    public int health() {
+        return ApiUtils.getRequest("/health").getStatusCode();
+    }
+
+    @Benchmark
+    public int getBookById() {
+        int id = FIRST_ID + ThreadLocalRandom.current().nextInt(CATALOG_SIZE);
+        Response response = ApiUtils.getRequest("/books/" + id, token);
+        return JsonResponse.of(response).getInt("id");
+    }
+
+    @Benchmark
+    public int createBook() {
+        Response response = ApiUtils.postRequest("/books/", newBook, token);
+        return JsonResponse.of(response).getInt("id");
+    }
+
+    @Benchmark
+    public int listBooks() {
+        return JsonResponse.of(ApiUtils.getRequest("/books/", token)).size("");
+    }
+}
@@ -0,0 +1,124 @@
+package com.rest_assured.bench;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.rest_assured.common.JsonResponse;
+import com.rest_assured.common.Payloads;
+import com.rest_assured.model.Book;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reading fields out of a response the way the tests do: response.jsonPath()
+ * per field (a Groovy re-parse each time), one JsonPath reused, JsonResponse
+ * and a plain Jackson tree. The bodies are buffered, so no I/O is measured.
+ */
+@State(Scope.Thread)
+public class ExtractionBenchmark {
+
+    private static final int LIST_SIZE = 100;
+
+    private Response book;
+    private Response books;
+
+    @Setup
+    public void setup() {
+        List<Book> catalog = new ArrayList<>(LIST_SIZE);
+        for (int i = 0; i < LIST_SIZE; i++) {
+            catalog.add(new Book(1000 + i, "Book_" + i, "Author_" + i, 1990 + i % 35, "This is a summary of book " + i));
+        }
+        book = response(Payloads.toJson(catalog.get(0)));
+        books = response(Payloads.toJson(catalog));
+    }
+
+    // One field, as in shouldCreateBookSuccessfully
+    @Benchmark
+    public int idRestAssuredJsonPath() {
+        return book.jsonPath().getInt("id");
+    }
+
+    @Benchmark
+    public int idJsonResponse() {
+        return JsonResponse.of(book).getInt("id");
+    }
+
+    @Benchmark
+    public int idJacksonTree() throws Exception {
+        return Payloads.mapper().readTree(book.asByteArray()).get("id").asInt();
+    }
+
+    // Four fields, as in the get/update book tests
+    @Benchmark
+    public void fieldsRestAssuredJsonPathPerField(Blackhole bh) {
+        bh.consume(book.jsonPath().getInt("id"));
+        bh.consume(book.jsonPath().getString("name"));
+        bh.consume(book.jsonPath().getString("author"));
+        bh.consume(book.jsonPath().getInt("published_year"));
+    }
+
+    @Benchmark
+    public void fieldsRestAssuredJsonPathReused(Blackhole bh) {
+        JsonPath json = book.jsonPath();
+        bh.consume(json.getInt("id"));
+        bh.consume(json.getString("name"));
+        bh.consume(json.getString("author"));
+        bh.consume(json.getInt("published_year"));
+    }
+
+    @Benchmark
+    public void fieldsJsonResponse(Blackhole bh) {
+        JsonResponse json = JsonResponse.of(book);
+        bh.consume(json.getInt("id"));
+        bh.consume(json.getString("name"));
+        bh.consume(json.getString("author"));
+        bh.consume(json.getInt("published_year"));
+    }
+
+    @Benchmark
+    public Book mapRestAssured() {
+        return book.as(Book.class);
+    }
+
+    @Benchmark
+    public Book mapJsonResponse() {
+        return JsonResponse.of(book).as(Book.class);
+    }
+
+    // First id of a 100-book list, as getFirstBookId did before streaming
+    @Benchmark
+    public int listFirstIdRestAssuredJsonPath() {
+        return books.jsonPath().getInt("[0].id");
+    }
+
+    @Benchmark
+    public int listFirstIdJsonResponse() {
+        return JsonResponse.of(books).getInt("[0].id");
+    }
+
+    @Benchmark
+    public int listSizeRestAssuredJsonPath() {
+        return books.jsonPath().getList("$").size();
+    }
+
+    @Benchmark
+    public int listSizeJacksonTree() throws Exception {
+        JsonNode root = Payloads.mapper().readTree(books.asByteArray());
+        return root.size();
+    }
+
+    private static Response response(byte[] body) {
+        return new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType("application/json")
+                .setBody(body)
+                .build();
+    }
+}
@@ -0,0 +1,52 @@
+package com.rest_assured.bench;
+
+import com.rest_assured.common.PayloadTemplate;
+import com.rest_assured.common.Payloads;
+import com.rest_assured.model.Book;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Cost of building one book payload, from the JSONObject + toString() the
+ * tests started with to the cached Jackson writer and the pre-split template.
+ */
+@State(Scope.Thread)
+public class PayloadBenchmark {
+
+    private static final PayloadTemplate TEMPLATE =
+            PayloadTemplate.of(new Book(), "id", "name", "author", "published_year", "book_summary");
+
+    private final Book book = new Book(123_456_789, "Book_1a2b3c4d", "Author_5e6f70", 2001,
+            "This is a summary of book Book_8a9bacbd");
+
+    @Benchmark
+    public byte[] jsonObject() {
+        JSONObject payload = new JSONObject();
+        payload.put("id", book.getId());
+        payload.put("name", book.getName());
+        payload.put("author", book.getAuthor());
+        payload.put("published_year", book.getPublishedYear());
+        payload.put("book_summary", book.getBookSummary());
+        return payload.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] objectMapper() throws Exception {
+        return Payloads.mapper().writeValueAsBytes(book);
+    }
+
+    @Benchmark
+    public byte[] payloadsToJson() {
+        return Payloads.toJson(book);
+    }
+
+    @Benchmark
+    public byte[] payloadTemplate() {
+        return TEMPLATE.render(book.getId(), book.getName(), book.getAuthor(), book.getPublishedYear(),
+                book.getBookSummary());
+    }
+}
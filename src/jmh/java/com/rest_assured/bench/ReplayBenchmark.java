@@ -0,0 +1,51 @@
+package com.rest_assured.bench;
+
+import com.rest_assured.common.Payloads;
+import com.rest_assured.model.Book;
+import com.rest_assured.replay.ExchangeFile;
+import com.rest_assured.replay.ReplayStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Lookup cost of a replayed exchange: index hit plus copying the body out of
+ * the memory-mapped recording. This is the ceiling replay mode adds on top of
+ * RestAssured itself.
+ */
+@State(Scope.Benchmark)
+public class ReplayBenchmark {
+
+    private static final int BOOKS = 10_000;
+
+    private ReplayStore store;
+    private String[] signatures;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        Path file = Files.createTempFile("replay-bench", ".bin");
+        file.toFile().deleteOnExit();
+        signatures = new String[BOOKS];
+        try (ExchangeFile recording = new ExchangeFile(file)) {
+            for (int i = 0; i < BOOKS; i++) {
+                signatures[i] = "GET /books/" + i;
+                recording.append(signatures[i], 200, "application/json",
+                        Payloads.toJson(new Book(i, "Book_" + i, "Author_" + i, 2000, "This is a summary of book " + i)));
+            }
+        }
+        store = new ReplayStore(file);
+    }
+
+    @Benchmark
+    public int lookup() {
+        String signature = signatures[ThreadLocalRandom.current().nextInt(BOOKS)];
+        return store.body(store.next(signature)).length;
+    }
+}
@@ -0,0 +1,53 @@
+package com.rest_assured.bench;
+
+import com.rest_assured.common.JsonStreams;
+import com.rest_assured.common.Payloads;
+import com.rest_assured.model.Book;
+import com.rest_assured.schema.JsonSchemas;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cost of validating a whole catalog against book-list.json while streaming
+ * it, next to only parsing it the same way. The gap between the two is what
+ * schema validation adds per response.
+ */
+@State(Scope.Thread)
+public class SchemaBenchmark {
+
+    private static final int BOOKS = 10_000;
+
+    private Response catalog;
+
+    @Setup
+    public void setup() {
+        List<Book> books = new ArrayList<>(BOOKS);
+        for (int i = 0; i < BOOKS; i++) {
+            books.add(new Book(1000 + i, "Book_" + i, "Author_" + i, 1990 + i % 35, "This is a summary of book " + i));
+        }
+        catalog = new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType("application/json")
+                .setBody(Payloads.toJson(books))
+                .build();
+        // Compile outside the measurement
+        JsonSchemas.get("book-list");
+    }
+
+    @Benchmark
+    public long parseOnly() {
+        return JsonStreams.count(catalog);
+    }
+
+    @Benchmark
+    public long parseAndValidate() {
+        return JsonSchemas.validateElements(catalog, "book-list").getChecked();
+    }
+}
@@ -1,59 +1,67 @@
 package com.project.base;
 
-import io.restassured.RestAssured;
+import com.rest_assured.common.ApiUtils;
+import com.rest_assured.common.BookFixtures;
+import com.rest_assured.common.CircuitBreaker;
+import com.rest_assured.common.ConfigManager;
+import com.rest_assured.common.RequestLogger;
+import com.rest_assured.perf.LatencyRecorder;
+import com.rest_assured.perf.PerfRegression;
+import com.rest_assured.perf.PerfRun;
+import com.rest_assured.stub.BookstoreStub;
+
+import io.qameta.allure.Allure;
+import org.testng.ITestResult;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeClass;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 
 public class BaseClass {
 
+    // Loaded once per JVM and shared by every test class and thread
+    protected final ConfigManager config = ConfigManager.get();
+
     @BeforeClass
     public void setup() {
-        Properties prop = new Properties();
-        String baseUrl = null;
-
-        try (InputStream input = getClass().getClassLoader().getResourceAsStream("config.properties")) {
-            if (input == null) {
-                throw new RuntimeException("config.properties not found in classpath");
-            }
-
-            prop.load(input);
-
-            // Get env from system property > env var > config file
-            String env = System.getProperty("env");
-            if (env == null || env.isEmpty()) {
-                env = System.getenv("TARGET_ENV");
-            }
-            if (env == null || env.isEmpty()) {
-                env = prop.getProperty("env", "dev");
-            }
-
-            env = env.toLowerCase(); // Normalize
-
-            switch (env) {
-                case "qa":
-                    baseUrl = prop.getProperty("qa.url");
-                    break;
-                case "stage":
-                    baseUrl = prop.getProperty("stage.url");
-                    break;
-                case "prod":
-                    baseUrl = prop.getProperty("prod.url");
-                    break;
-                case "dev":
-                default:
-                    baseUrl = prop.getProperty("dev.url");
-                    break;
-            }
-
-            System.out.println("Running tests against: " + baseUrl);
-
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to load config.properties: " + e.getMessage());
+        // Shared by every test thread; RestAssured's global baseURI is left alone.
+        // stub.enabled=true runs everything against the in-JVM stub instead of the configured service.
+        if (config.getBoolean("stub.enabled", false)) {
+            ApiUtils.setDefaultBaseUri(BookstoreStub.shared().baseUrl());
+        } else {
+            ApiUtils.setDefaultBaseUri(config.getBaseUrl());
+        }
+        // Once per run: a backend that is already down opens the breaker before the first test waits on it
+        CircuitBreaker.seed();
+    }
+
+    // Passed tests only: a failure's timing says nothing about how fast the service is
+    @AfterMethod(alwaysRun = true)
+    public void recordTestDuration(ITestResult result) {
+        if (result.isSuccess()) {
+            PerfRun.recordTest(result.getTestClass().getRealClass().getSimpleName() + "." + result.getName(),
+                    TimeUnit.MILLISECONDS.toNanos(result.getEndMillis() - result.getStartMillis()));
         }
+    }
+
+    @AfterSuite(alwaysRun = true)
+    public void cleanupFixtures() {
+        BookFixtures.cleanup();
+    }
 
-        RestAssured.baseURI = baseUrl;
+    @AfterSuite(alwaysRun = true)
+    public void reportLatencies() {
+        RequestLogger.flush(TimeUnit.SECONDS.toNanos(2));
+        String report = LatencyRecorder.report();
+        System.out.println("====== API Latency (per endpoint) ======");
+        System.out.print(report);
+        Allure.addAttachment("API latency percentiles", "text/plain", report, ".txt");
+
+        // Compared with earlier runs, then added to the history (perf.history.*)
+        PerfRegression regression = PerfRun.finish("suite", PerfRun.suiteSamples(System.currentTimeMillis()));
+        if (regression != null) {
+            Allure.addAttachment("Performance vs history", "text/plain", regression.report(), ".txt");
+        }
     }
 }
@@ -0,0 +1,65 @@
+package com.rest_assured.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * A bearer token together with the expiry read from its JWT "exp" claim.
+ * Tokens that cannot be decoded fall back to token.defaultTtlSec (25 minutes,
+ * just under the bookstore's 30 minute lifetime).
+ */
+public class AccessToken {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Duration DEFAULT_TTL = ConfigManager.get().getTokenDefaultTtl();
+    // Treat a token as expired a little early so it is never sent in its last seconds
+    private static final Duration CLOCK_SKEW = Duration.ofSeconds(5);
+
+    private final String value;
+    private final Instant expiresAt;
+
+    public AccessToken(String value, Instant expiresAt) {
+        this.value = value;
+        this.expiresAt = expiresAt;
+    }
+
+    public static AccessToken of(String jwt) {
+        return new AccessToken(jwt, readExpiry(jwt));
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public boolean isExpired() {
+        return !Instant.now().isBefore(expiresAt.minus(CLOCK_SKEW));
+    }
+
+    // True once the token is inside the refresh window before its expiry
+    public boolean needsRefresh(Duration refreshAhead) {
+        return !Instant.now().isBefore(expiresAt.minus(refreshAhead));
+    }
+
+    private static Instant readExpiry(String jwt) {
+        String[] parts = jwt == null ? new String[0] : jwt.split("\\.");
+        if (parts.length >= 2) {
+            try {
+                JsonNode claims = MAPPER.readTree(Base64.getUrlDecoder().decode(parts[1]));
+                if (claims.hasNonNull("exp")) {
+                    return Instant.ofEpochSecond(claims.get("exp").asLong());
+                }
+            } catch (Exception e) {
+                // Not a JWT we can read; fall through to the default lifetime
+            }
+        }
+        return Instant.now().plus(DEFAULT_TTL);
+    }
+}
@@ -1,15 +1,52 @@
 package com.rest_assured.common;
 
+import com.rest_assured.perf.LatencyRecorder;
+
 import io.restassured.RestAssured;
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
 import io.restassured.http.ContentType;
 
 public class ApiUtils {
 
+    private static volatile String defaultBaseUri;
+    private static final ThreadLocal<String> THREAD_BASE_URI = new ThreadLocal<>();
+
+    // Target for every thread that has no override of its own; defaults to ConfigManager's base URL
+    public static void setDefaultBaseUri(String baseUri) {
+        defaultBaseUri = baseUri;
+    }
+
+    // Points only the calling thread at another environment
+    public static void setThreadBaseUri(String baseUri) {
+        THREAD_BASE_URI.set(baseUri);
+    }
+
+    public static void clearThreadBaseUri() {
+        THREAD_BASE_URI.remove();
+    }
+
+    // Thread override, then the default, then the configured environment
+    public static String baseUri() {
+        String baseUri = THREAD_BASE_URI.get();
+        if (baseUri == null) {
+            baseUri = defaultBaseUri;
+        }
+        return baseUri != null ? baseUri : ConfigManager.get().getBaseUrl();
+    }
+
+    // Every call gets its own spec layered over the shared immutable base spec, so nothing global is mutated.
+    // Package-private so RequestSpecBenchmark can measure it.
+    static RequestSpecification given() {
+        return RestAssured.given()
+                .spec(HttpClientPool.baseSpec(baseUri()))
+                .filter(LatencyRecorder.filter())
+                .filter(RequestLogger.filter());
+    }
+
     // GET Request
     public static Response getRequest(String endpoint) {
-        return RestAssured
-                .given()
+        return given()
                 .contentType(ContentType.JSON)
                 .when()
                 .get(endpoint)
@@ -22,8 +59,21 @@ public class ApiUtils {
     
     //GET with Token 
     public static Response getRequest(String endpoint, String token) {
-        return RestAssured
-                .given()
+        return given()
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .when()
+                .get(endpoint)
+                .then()
+                .extract()
+                .response();
+    }
+
+    // GET with Token whose body stays on the wire; read it through JsonStreams (or close it) to free the connection
+    public static Response getStreamingRequest(String endpoint, String token) {
+        return RestAssured.given()
+                .spec(HttpClientPool.streamingSpec(baseUri()))
+                .filter(LatencyRecorder.filter())
                 .contentType(ContentType.JSON)
                 .header("Authorization", "Bearer " + token)
                 .when()
@@ -35,8 +85,7 @@ public class ApiUtils {
 
     // POST Request
     public static Response postRequest(String endpoint, String requestBody) {
-        return RestAssured
-                .given()
+        return given()
                 .contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
@@ -47,9 +96,7 @@ public class ApiUtils {
     }
     
     public static Response postRequest(String endpoint, String requestBody, String token) {
-        return RestAssured
-                .given()
-                .relaxedHTTPSValidation()
+        return given()
                 .redirects().follow(true)
                 .contentType(ContentType.JSON)
                 .header("Authorization", "Bearer " + token)
@@ -63,10 +110,34 @@ public class ApiUtils {
 
 
 
+    // POST with a pre-encoded JSON body (Payloads / PayloadTemplate); sent as-is, no String round trip
+    public static Response postRequest(String endpoint, byte[] requestBody) {
+        return given()
+                .contentType(ContentType.JSON)
+                .body(requestBody)
+                .when()
+                .post(endpoint)
+                .then()
+                .extract()
+                .response();
+    }
+
+    public static Response postRequest(String endpoint, byte[] requestBody, String token) {
+        return given()
+                .redirects().follow(true)
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .body(requestBody)
+                .when()
+                .post(endpoint)
+                .then()
+                .extract()
+                .response();
+    }
+
     // POST Request with Authorization
     public static Response postRequestWithAuth(String endpoint, String requestBody, String token) {
-        return RestAssured
-                .given()
+        return given()
                 .contentType(ContentType.JSON)
                 .header("Authorization", "Bearer " + token)
                 .body(requestBody)
@@ -79,8 +150,19 @@ public class ApiUtils {
 
     // PUT Request
     public static Response putRequest(String endpoint, String requestBody, String token) {
-        return RestAssured
-                .given()
+        return given()
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .body(requestBody)
+                .when()
+                .put(endpoint)
+                .then()
+                .extract()
+                .response();
+    }
+
+    public static Response putRequest(String endpoint, byte[] requestBody, String token) {
+        return given()
                 .contentType(ContentType.JSON)
                 .header("Authorization", "Bearer " + token)
                 .body(requestBody)
@@ -93,8 +175,7 @@ public class ApiUtils {
 
     // PATCH Request
     public static Response patchRequest(String endpoint, String requestBody, String token) {
-        return RestAssured
-                .given()
+        return given()
                 .contentType(ContentType.JSON)
                 .header("Authorization", "Bearer " + token)
                 .body(requestBody)
@@ -107,8 +188,7 @@ public class ApiUtils {
 
     // DELETE Request
     public static Response deleteRequest(String endpoint, String token) {
-        return RestAssured
-                .given()
+        return given()
                 .contentType(ContentType.JSON)
                 .header("Authorization", "Bearer " + token)
                 .when()
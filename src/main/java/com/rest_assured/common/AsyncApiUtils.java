@@ -0,0 +1,112 @@
+package com.rest_assured.common;
+
+import com.rest_assured.perf.LatencyRecorder;
+import io.restassured.response.Response;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking counterpart of ApiUtils. Every call runs the matching ApiUtils
+ * method on its own virtual thread (or on a fixed platform pool when
+ * async.virtualThreads=false) and returns a CompletableFuture.
+ *
+ * At most async.maxInFlight requests (default 1000) are on the wire at once;
+ * extra tasks wait for a permit instead of piling onto the connection pool.
+ * With pooling on, the limit is capped at http.pool.maxPerRoute: HttpClient 4
+ * waits for a free connection inside a synchronized block, which pins the
+ * carrier thread and can stall every virtual thread behind it.
+ */
+public class AsyncApiUtils {
+
+    private static final boolean VIRTUAL_THREADS = ConfigManager.get().isAsyncVirtualThreads();
+    private static final int PLATFORM_THREADS = ConfigManager.get().getAsyncPlatformThreads();
+    private static final int MAX_IN_FLIGHT = maxInFlight();
+
+    private static final ExecutorService EXECUTOR = createExecutor();
+    private static final Semaphore IN_FLIGHT = new Semaphore(MAX_IN_FLIGHT);
+
+    // GET Request
+    public static CompletableFuture<Response> getRequest(String endpoint) {
+        return submit(() -> ApiUtils.getRequest(endpoint));
+    }
+
+    // GET with Token
+    public static CompletableFuture<Response> getRequest(String endpoint, String token) {
+        return submit(() -> ApiUtils.getRequest(endpoint, token));
+    }
+
+    // POST Request
+    public static CompletableFuture<Response> postRequest(String endpoint, String requestBody) {
+        return submit(() -> ApiUtils.postRequest(endpoint, requestBody));
+    }
+
+    public static CompletableFuture<Response> postRequest(String endpoint, String requestBody, String token) {
+        return submit(() -> ApiUtils.postRequest(endpoint, requestBody, token));
+    }
+
+    // PUT Request
+    public static CompletableFuture<Response> putRequest(String endpoint, String requestBody, String token) {
+        return submit(() -> ApiUtils.putRequest(endpoint, requestBody, token));
+    }
+
+    // PATCH Request
+    public static CompletableFuture<Response> patchRequest(String endpoint, String requestBody, String token) {
+        return submit(() -> ApiUtils.patchRequest(endpoint, requestBody, token));
+    }
+
+    // DELETE Request
+    public static CompletableFuture<Response> deleteRequest(String endpoint, String token) {
+        return submit(() -> ApiUtils.deleteRequest(endpoint, token));
+    }
+
+    /**
+     * Runs any blocking call on the async executor under the in-flight limit.
+     *
+     * @param call blocking request, usually one or more ApiUtils calls
+     * @return future completed with the call's result, or exceptionally if the call throws
+     */
+    public static <T> CompletableFuture<T> submit(Supplier<T> call) {
+        // Calls count towards the submitting test's SLA (SlaListener)
+        LatencyRecorder.Capture capture = LatencyRecorder.currentCapture();
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                IN_FLIGHT.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+            LatencyRecorder.Capture previous = LatencyRecorder.swapCapture(capture);
+            try {
+                return call.get();
+            } finally {
+                LatencyRecorder.swapCapture(previous);
+                IN_FLIGHT.release();
+            }
+        }, EXECUTOR);
+    }
+
+    public static int inFlight() {
+        return MAX_IN_FLIGHT - IN_FLIGHT.availablePermits();
+    }
+
+    public static boolean usesVirtualThreads() {
+        return VIRTUAL_THREADS;
+    }
+
+    private static int maxInFlight() {
+        int requested = ConfigManager.get().getAsyncMaxInFlight();
+        return HttpClientPool.isEnabled() ? Math.min(requested, HttpClientPool.maxPerRoute()) : requested;
+    }
+
+    private static ExecutorService createExecutor() {
+        if (VIRTUAL_THREADS) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("api-async-", 0).factory());
+        }
+        return Executors.newFixedThreadPool(PLATFORM_THREADS, Thread.ofPlatform().name("api-async-", 0).daemon().factory());
+    }
+}
@@ -0,0 +1,144 @@
+package com.rest_assured.common;
+
+import com.rest_assured.model.Book;
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Registry of the books the framework creates, plus a warm pool of seeded books
+ * that tests lease when they need "some existing book".
+ *
+ *   int bookId = BookFixtures.lease();
+ *   try {
+ *       ... read or update /books/{bookId} ...
+ *   } finally {
+ *       BookFixtures.release(bookId);   // or discard(bookId) after deleting it
+ *   }
+ *
+ * A lease costs no request while the pool has books and one POST when it is
+ * empty, instead of downloading the whole catalog. The first lease seeds
+ * fixtures.books.poolSize books in parallel. Every registered book is deleted
+ * by cleanup() at the end of the suite (fixtures.cleanup=false keeps them).
+ */
+public class BookFixtures {
+
+    private static final int POOL_SIZE = ConfigManager.get().getInt("fixtures.books.poolSize", 3);
+    private static final boolean CLEANUP = ConfigManager.get().getBoolean("fixtures.cleanup", true);
+
+    private static final Set<Integer> REGISTERED = ConcurrentHashMap.newKeySet();
+    private static final ConcurrentLinkedDeque<Integer> AVAILABLE = new ConcurrentLinkedDeque<>();
+
+    // ReentrantLock rather than synchronized: seeding does network I/O and must not pin virtual threads
+    private static final ReentrantLock SEED_LOCK = new ReentrantLock();
+    private static volatile boolean seeded;
+
+    /**
+     * Hands out a book no other test holds until it is released or discarded.
+     *
+     * @return ID of an existing book
+     * @throws RuntimeException if a new book has to be created and /books rejects it
+     */
+    public static int lease() {
+        if (!seeded) {
+            seed();
+        }
+        Integer id = AVAILABLE.pollFirst();
+        return id != null ? id : create();
+    }
+
+    // Book is still there and may be leased again
+    public static void release(int id) {
+        if (REGISTERED.contains(id)) {
+            AVAILABLE.offerFirst(id);
+        }
+    }
+
+    // Book was deleted by the test; forget it
+    public static void discard(int id) {
+        REGISTERED.remove(id);
+        AVAILABLE.remove(id);
+    }
+
+    // Records a book created outside this class so cleanup() deletes it too
+    public static void register(int id) {
+        REGISTERED.add(id);
+    }
+
+    /**
+     * Creates a book with random data and registers it; it is not added to the pool.
+     *
+     * @throws RuntimeException if /books does not answer 200 with the book's id
+     */
+    public static int create() {
+        Book book = RandomDataGenerator.generateRandomBook();
+
+        Response response = ApiUtils.postRequest("/books/", Payloads.toJson(book), TokenManager.getToken());
+        if (response.getStatusCode() != 200) {
+            throw new RuntimeException("Failed to create fixture book. Status: " + response.getStatusCode());
+        }
+        Integer id = JsonResponse.of(response).getInt("id");
+        if (id == null) {
+            throw new RuntimeException("Fixture book created without an id in the response: " + response.asString());
+        }
+        register(id);
+        return id;
+    }
+
+    public static Set<Integer> getRegisteredIds() {
+        return Set.copyOf(REGISTERED);
+    }
+
+    /**
+     * Deletes every registered book (pooled, leased or created elsewhere) in
+     * parallel and empties the registry. Books that are already gone are ignored.
+     */
+    public static void cleanup() {
+        if (!CLEANUP || REGISTERED.isEmpty()) {
+            return;
+        }
+        if (CircuitBreaker.isOpen(ApiUtils.baseUri())) {
+            System.out.println("Backend unavailable; " + REGISTERED.size() + " fixture book(s) left in place");
+            return;
+        }
+        String token = TokenManager.getToken();
+        List<CompletableFuture<Response>> deletes = new ArrayList<>();
+        for (int id : getRegisteredIds()) {
+            deletes.add(AsyncApiUtils.deleteRequest("/books/" + id, token));
+        }
+        CompletableFuture.allOf(deletes.toArray(new CompletableFuture<?>[0])).exceptionally(e -> null).join();
+
+        // Books already gone (404) or a failed call are not counted as deleted
+        long deleted = deletes.stream()
+                .filter(d -> !d.isCompletedExceptionally() && d.join().getStatusCode() == 200)
+                .count();
+        System.out.println("Deleted " + deleted + " of " + deletes.size() + " fixture books");
+        REGISTERED.clear();
+        AVAILABLE.clear();
+        seeded = false;
+    }
+
+    private static void seed() {
+        SEED_LOCK.lock();
+        try {
+            if (seeded) {
+                return;
+            }
+            List<CompletableFuture<Integer>> books = new ArrayList<>();
+            for (int i = 0; i < POOL_SIZE; i++) {
+                books.add(AsyncApiUtils.submit(BookFixtures::create));
+            }
+            // Leased in ID order, whichever create finished first, so a seeded run leases the same books every time
+            books.stream().map(CompletableFuture::join).sorted().forEach(AVAILABLE::offerLast);
+            seeded = true;
+        } finally {
+            SEED_LOCK.unlock();
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.rest_assured.common;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Fail-fast guard for a backend that is down: once it is judged unhealthy,
+ * ApiUtils calls to it throw OpenException at once instead of each waiting out
+ * its timeouts, and CircuitBreakerListener reports the tests that hit it as skipped.
+ *
+ * One breaker per base URL. It opens when
+ * - GET /health (breaker.healthPath) throws or answers 5xx, whether from the
+ *   probe in seed() or from HealthCheckAPI, or
+ * - at least breaker.minCalls of the last breaker.windowSize calls were made and
+ *   breaker.failureRate of them threw (connection refused, timeout) or answered
+ *   one of breaker.failureStatuses (default 500, 502, 503, 504).
+ * A 500 to POST, PUT or PATCH under breaker.validationPaths (default /books) is not
+ * counted: the bookstore answers it by design for missing fields and duplicate IDs,
+ * and negative tests provoke it on purpose. Everywhere else, e.g. GET /books or
+ * /login, a 500 means the backend is broken. 4xx answers are the API working as
+ * specified and never count.
+ *
+ * After breaker.openMs one trial call goes through: success closes the breaker,
+ * failure opens it again. GET /health always goes through and closes it on a 2xx.
+ *
+ * The breaker does nothing until armed; CircuitBreakerListener arms it for test
+ * suites. Load, journey and soak runs leave it unarmed, since they are there to
+ * measure errors, not to avoid them.
+ */
+public class CircuitBreaker {
+
+    private static final ConfigManager CONFIG = ConfigManager.get();
+    private static final boolean ENABLED = CONFIG.getBoolean("breaker.enabled", true);
+    private static final int WINDOW_SIZE = Math.max(1, CONFIG.getInt("breaker.windowSize", 20));
+    private static final int MIN_CALLS = CONFIG.getInt("breaker.minCalls", 10);
+    private static final double FAILURE_RATE = CONFIG.getDouble("breaker.failureRate", 0.5);
+    private static final long OPEN_NANOS = CONFIG.getMillis("breaker.openMs", 30_000L).toNanos();
+    private static final String HEALTH_PATH = CONFIG.getString("breaker.healthPath", "/health");
+    private static final Set<Integer> FAILURE_STATUSES = statuses(CONFIG.getString("breaker.failureStatuses", "500,502,503,504"));
+    private static final List<String> VALIDATION_PATHS = List.of(CONFIG.getString("breaker.validationPaths", "/books").split("\\s*,\\s*"));
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH");
+
+    private static final Map<String, CircuitBreaker> BREAKERS = new ConcurrentHashMap<>();
+    private static volatile boolean armed;
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String baseUri;
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private volatile long openedAt;
+    private volatile String reason;
+    private final AtomicLong shortCircuited = new AtomicLong();
+    private final AtomicLong opened = new AtomicLong();
+    private boolean seeded;
+
+    // Rolling window of the last WINDOW_SIZE outcomes; guarded by this
+    private final boolean[] window = new boolean[WINDOW_SIZE];
+    private int calls;
+    private int failures;
+    private int nextSlot;
+
+    private CircuitBreaker(String baseUri) {
+        this.baseUri = baseUri;
+    }
+
+    // Switches breakers on for this JVM (breaker.enabled=false keeps them off)
+    public static void arm() {
+        armed = ENABLED;
+    }
+
+    public static boolean isArmed() {
+        return armed;
+    }
+
+    public static OrderedFilter filterFor(String baseUri) {
+        CircuitBreaker breaker = forUri(baseUri);
+        return new OrderedFilter() {
+            @Override
+            public Response filter(FilterableRequestSpecification requestSpec,
+                                   FilterableResponseSpecification responseSpec, FilterContext ctx) {
+                if (!armed) {
+                    return ctx.next(requestSpec, responseSpec);
+                }
+                return breaker.call(requestSpec, responseSpec, ctx);
+            }
+
+            // Outermost filter: a short-circuited call never waits for a rate limit permit or shows up as latency
+            @Override
+            public int getOrder() {
+                return OrderedFilter.HIGHEST_PRECEDENCE;
+            }
+        };
+    }
+
+    /**
+     * Probes the health endpoint of the current base URL once per run, so a
+     * backend that is already down opens the breaker before the first test calls it.
+     */
+    public static void seed() {
+        if (!armed) {
+            return;
+        }
+        CircuitBreaker breaker = forUri(ApiUtils.baseUri());
+        synchronized (breaker) {
+            if (breaker.seeded) {
+                return;
+            }
+            breaker.seeded = true;
+        }
+        try {
+            // The filter records a failed call; a 2xx whose status is not "up" is judged here
+            Response response = ApiUtils.getRequest(HEALTH_PATH);
+            if (response.getStatusCode() / 100 == 2) {
+                String status = JsonResponse.of(response).getString("status");
+                if (!"up".equalsIgnoreCase(status)) {
+                    breaker.trip("GET " + HEALTH_PATH + " reports status '" + status + "'");
+                }
+            }
+        } catch (Exception e) {
+            breaker.trip("GET " + HEALTH_PATH + " probe failed: " + e);
+        }
+    }
+
+    public static boolean isOpen(String baseUri) {
+        CircuitBreaker breaker = BREAKERS.get(baseUri);
+        return armed && breaker != null && breaker.state.get() != State.CLOSED;
+    }
+
+    // One line per breaker that opened during the run; empty when none did
+    public static String report() {
+        StringBuilder sb = new StringBuilder();
+        for (CircuitBreaker breaker : BREAKERS.values()) {
+            if (breaker.opened.get() > 0) {
+                sb.append(String.format("[BREAKER] %s: opened %d time(s), %d call(s) short-circuited, now %s; last reason: %s%n",
+                        breaker.baseUri, breaker.opened.get(), breaker.shortCircuited.get(),
+                        breaker.state.get(), breaker.reason));
+            }
+        }
+        return sb.toString();
+    }
+
+    // "502, 503,504" -> {502, 503, 504}
+    private static Set<Integer> statuses(String list) {
+        Set<Integer> statuses = new HashSet<>();
+        for (String status : list.split(",")) {
+            if (!status.isBlank()) {
+                statuses.add(Integer.parseInt(status.trim()));
+            }
+        }
+        return Set.copyOf(statuses);
+    }
+
+    // A write to e.g. /books or /books/12, where a 500 is the bookstore rejecting the payload
+    private static boolean isValidation(FilterableRequestSpecification requestSpec) {
+        if (!WRITE_METHODS.contains(requestSpec.getMethod())) {
+            return false;
+        }
+        String path = requestSpec.getUserDefinedPath();
+        for (String prefix : VALIDATION_PATHS) {
+            if (!prefix.isEmpty() && (path.equals(prefix) || path.startsWith(prefix + "/") || path.startsWith(prefix + "?"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static CircuitBreaker forUri(String baseUri) {
+        return BREAKERS.computeIfAbsent(baseUri, CircuitBreaker::new);
+    }
+
+    private Response call(FilterableRequestSpecification requestSpec,
+                          FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        boolean health = "GET".equals(requestSpec.getMethod()) && HEALTH_PATH.equals(requestSpec.getUserDefinedPath());
+        boolean trial = false;
+        if (!health && state.get() != State.CLOSED) {
+            trial = System.nanoTime() - openedAt >= OPEN_NANOS && state.compareAndSet(State.OPEN, State.HALF_OPEN);
+            if (!trial) {
+                shortCircuited.incrementAndGet();
+                throw new OpenException("Circuit open for " + baseUri + " (" + reason + "); "
+                        + requestSpec.getMethod() + " " + requestSpec.getUserDefinedPath() + " not sent");
+            }
+        }
+
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } catch (Exception e) {
+            // Connection errors arrive as undeclared IOExceptions, so catch everything
+            failed(health || trial, requestSpec.getMethod() + " " + requestSpec.getUserDefinedPath()
+                    + " threw " + e.getClass().getSimpleName());
+            throw e;
+        }
+        int status = response.getStatusCode();
+        if (health ? status >= 500 : FAILURE_STATUSES.contains(status) && !(status == 500 && isValidation(requestSpec))) {
+            failed(health || trial, requestSpec.getMethod() + " " + requestSpec.getUserDefinedPath()
+                    + " answered " + status);
+        } else if (trial || health && status / 100 == 2) {
+            close();
+        } else {
+            record(false);
+        }
+        return response;
+    }
+
+    private void failed(boolean tripNow, String what) {
+        if (tripNow) {
+            trip(what);
+        } else if (record(true)) {
+            trip(failures + " of the last " + calls + " calls failed, latest: " + what);
+        }
+    }
+
+    // Adds one outcome to the window; true when the failure rate now calls for opening
+    private synchronized boolean record(boolean failure) {
+        if (calls == WINDOW_SIZE) {
+            if (window[nextSlot]) {
+                failures--;
+            }
+        } else {
+            calls++;
+        }
+        window[nextSlot] = failure;
+        if (failure) {
+            failures++;
+        }
+        nextSlot = (nextSlot + 1) % WINDOW_SIZE;
+        return failure && calls >= MIN_CALLS && failures >= FAILURE_RATE * calls && state.get() == State.CLOSED;
+    }
+
+    private void trip(String why) {
+        reason = why;
+        openedAt = System.nanoTime();
+        if (state.getAndSet(State.OPEN) != State.OPEN) {
+            opened.incrementAndGet();
+            System.out.println("[BREAKER] Opened for " + baseUri + ": " + why + "; calls fail fast for the next "
+                    + TimeUnit.NANOSECONDS.toSeconds(OPEN_NANOS) + "s");
+        }
+    }
+
+    private synchronized void close() {
+        if (state.getAndSet(State.CLOSED) != State.CLOSED) {
+            // Failures from before the outage say nothing about the backend now
+            calls = 0;
+            failures = 0;
+            nextSlot = 0;
+            System.out.println("[BREAKER] Closed for " + baseUri + "; the backend answers again");
+        }
+    }
+
+    // Thrown instead of sending a call while the breaker is open
+    public static class OpenException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        OpenException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.rest_assured.common;
+
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+
+/**
+ * Arms CircuitBreaker for the suite and reports tests that failed only because
+ * the breaker was open as skipped: they never reached the backend, so they say
+ * nothing about the API. Registered in testng.xml.
+ */
+public class CircuitBreakerListener implements ISuiteListener, IInvokedMethodListener {
+
+    @Override
+    public void onStart(ISuite suite) {
+        CircuitBreaker.arm();
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        System.out.print(CircuitBreaker.report());
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod() && testResult.getStatus() == ITestResult.FAILURE
+                && shortCircuited(testResult.getThrowable())) {
+            testResult.setStatus(ITestResult.SKIP);
+        }
+    }
+
+    // The breaker's exception anywhere in the cause chain, e.g. wrapped by a CompletableFuture
+    private static boolean shortCircuited(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof CircuitBreaker.OpenException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,255 @@
+package com.rest_assured.common;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Process-wide, immutable view of the framework configuration, loaded once on
+ * first use and shared by every test class and thread.
+ *
+ * Each key is resolved as: system property > environment variable > config.properties.
+ * The environment variable name is the key upper-cased with dots as underscores
+ * (http.pool.maxTotal -> HTTP_POOL_MAXTOTAL). Two aliases are kept for CI:
+ * TARGET_ENV for env, and BASE_URL to point at a URL without editing the file.
+ */
+public final class ConfigManager {
+
+    private static final String CONFIG_FILE = "config.properties";
+
+    private static final ConfigManager INSTANCE = load();
+
+    private final Map<String, String> systemProperties;
+    private final Map<String, String> environment;
+    private final Map<String, String> fileProperties;
+
+    private final String env;
+    private final String baseUrl;
+
+    private final Duration connectTimeout;
+    private final Duration socketTimeout;
+    private final boolean trustAllCerts;
+
+    private final boolean poolEnabled;
+    private final int poolMaxTotal;
+    private final int poolMaxPerRoute;
+    private final Duration poolIdleTimeout;
+    private final Duration poolConnectionTtl;
+
+    private final boolean asyncVirtualThreads;
+    private final int asyncPlatformThreads;
+    private final int asyncMaxInFlight;
+
+    private final Duration tokenRefreshAhead;
+    private final Duration tokenDefaultTtl;
+
+    ConfigManager(Map<String, String> systemProperties, Map<String, String> environment,
+                  Map<String, String> fileProperties) {
+        this.systemProperties = Map.copyOf(systemProperties);
+        this.environment = Map.copyOf(environment);
+        this.fileProperties = Map.copyOf(fileProperties);
+
+        String resolvedEnv = firstNonEmpty(this.systemProperties.get("env"), this.environment.get("TARGET_ENV"),
+                this.fileProperties.get("env"), "dev");
+        this.env = resolvedEnv.toLowerCase();
+
+        String url = getString("base.url", null);
+        if (url == null) {
+            url = getString(this.env + ".url", null);
+        }
+        if (url == null) {
+            url = getString("dev.url", null);
+        }
+        if (url == null) {
+            throw new RuntimeException("No base URL configured for env '" + this.env + "'");
+        }
+        this.baseUrl = url;
+
+        this.connectTimeout = getMillis("http.connectTimeoutMs", 10_000L);
+        this.socketTimeout = getMillis("http.socketTimeoutMs", 60_000L);
+        this.trustAllCerts = getBoolean("http.trustAllCerts", false);
+
+        this.poolEnabled = getBoolean("http.pool.enabled", true);
+        this.poolMaxTotal = getInt("http.pool.maxTotal", 200);
+        this.poolMaxPerRoute = getInt("http.pool.maxPerRoute", 50);
+        this.poolIdleTimeout = getMillis("http.pool.idleTimeoutMs", 30_000L);
+        this.poolConnectionTtl = getMillis("http.pool.connectionTtlMs", 300_000L);
+
+        this.asyncVirtualThreads = getBoolean("async.virtualThreads", true);
+        this.asyncPlatformThreads = getInt("async.platformThreads", 64);
+        this.asyncMaxInFlight = getInt("async.maxInFlight", 1000);
+
+        this.tokenRefreshAhead = getSeconds("token.refreshAheadSec", 120L);
+        this.tokenDefaultTtl = getSeconds("token.defaultTtlSec", 1500L);
+    }
+
+    public static ConfigManager get() {
+        return INSTANCE;
+    }
+
+    private static ConfigManager load() {
+        Properties prop = new Properties();
+        try (InputStream input = ConfigManager.class.getClassLoader().getResourceAsStream(CONFIG_FILE)) {
+            if (input == null) {
+                throw new RuntimeException(CONFIG_FILE + " not found in classpath");
+            }
+            prop.load(input);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load " + CONFIG_FILE + ": " + e.getMessage());
+        }
+
+        ConfigManager config = new ConfigManager(toMap(System.getProperties()), System.getenv(), toMap(prop));
+        System.out.println("Running tests against: " + config.getBaseUrl() + " (env=" + config.getEnv() + ")");
+        return config;
+    }
+
+    // ---- Environment ----
+
+    public String getEnv() {
+        return env;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    // Environment whose <env>.url is this URL; the configured env for any other URL (a stub, base.url)
+    public String envFor(String url) {
+        String target = stripSlash(url);
+        if (target.equals(stripSlash(getString(env + ".url", "")))) {
+            return env;
+        }
+        for (Map<String, String> source : List.of(systemProperties, fileProperties)) {
+            for (Map.Entry<String, String> entry : source.entrySet()) {
+                String key = entry.getKey();
+                if (key.endsWith(".url") && !key.equals("base.url") && target.equals(stripSlash(entry.getValue()))) {
+                    return key.substring(0, key.length() - ".url".length()).toLowerCase();
+                }
+            }
+        }
+        return env;
+    }
+
+    // ---- HTTP ----
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public Duration getSocketTimeout() {
+        return socketTimeout;
+    }
+
+    public boolean isTrustAllCerts() {
+        return trustAllCerts;
+    }
+
+    public boolean isPoolEnabled() {
+        return poolEnabled;
+    }
+
+    public int getPoolMaxTotal() {
+        return poolMaxTotal;
+    }
+
+    public int getPoolMaxPerRoute() {
+        return poolMaxPerRoute;
+    }
+
+    public Duration getPoolIdleTimeout() {
+        return poolIdleTimeout;
+    }
+
+    public Duration getPoolConnectionTtl() {
+        return poolConnectionTtl;
+    }
+
+    // ---- Concurrency ----
+
+    public boolean isAsyncVirtualThreads() {
+        return asyncVirtualThreads;
+    }
+
+    public int getAsyncPlatformThreads() {
+        return asyncPlatformThreads;
+    }
+
+    public int getAsyncMaxInFlight() {
+        return asyncMaxInFlight;
+    }
+
+    // ---- Tokens ----
+
+    public Duration getTokenRefreshAhead() {
+        return tokenRefreshAhead;
+    }
+
+    public Duration getTokenDefaultTtl() {
+        return tokenDefaultTtl;
+    }
+
+    // ---- Any other key (load.*, ...) with the same layering ----
+
+    public String getString(String key, String defaultValue) {
+        return firstNonEmpty(systemProperties.get(key), environment.get(envName(key)), fileProperties.get(key),
+                defaultValue);
+    }
+
+    public int getInt(String key, int defaultValue) {
+        String value = getString(key, null);
+        return value == null ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    public long getLong(String key, long defaultValue) {
+        String value = getString(key, null);
+        return value == null ? defaultValue : Long.parseLong(value.trim());
+    }
+
+    public double getDouble(String key, double defaultValue) {
+        String value = getString(key, null);
+        return value == null ? defaultValue : Double.parseDouble(value.trim());
+    }
+
+    public boolean getBoolean(String key, boolean defaultValue) {
+        String value = getString(key, null);
+        return value == null ? defaultValue : Boolean.parseBoolean(value.trim());
+    }
+
+    public Duration getMillis(String key, long defaultMillis) {
+        return Duration.ofMillis(getLong(key, defaultMillis));
+    }
+
+    public Duration getSeconds(String key, long defaultSeconds) {
+        return Duration.ofSeconds(getLong(key, defaultSeconds));
+    }
+
+    // http.pool.maxTotal -> HTTP_POOL_MAXTOTAL
+    static String envName(String key) {
+        return key.toUpperCase().replace('.', '_');
+    }
+
+    private static String stripSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    private static String firstNonEmpty(String... values) {
+        for (String value : values) {
+            if (value != null && !value.isEmpty()) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private static Map<String, String> toMap(Properties properties) {
+        Map<String, String> map = new HashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            map.put(name, properties.getProperty(name));
+        }
+        return map;
+    }
+}
@@ -1,17 +1,21 @@
 package com.rest_assured.common;
 
-import io.restassured.RestAssured;
+import com.fasterxml.jackson.databind.JsonNode;
+
 import io.restassured.response.Response;
-import io.restassured.http.ContentType;
 
 public class GetAllBooksId {
 
 	
 	public static int getFirstBookId() {
-	    Response response = ApiUtils.getRequest("/books", TokenManager.getToken());
+	    Response response = ApiUtils.getStreamingRequest("/books", TokenManager.getToken());
 	    if (response.getStatusCode() == 200) {
-	        // Assuming response body is a JSON array of book objects
-	        return response.jsonPath().getInt("[0].id");
+	        // Response body is a JSON array of book objects; stop reading after the first one
+	        JsonNode first = JsonStreams.first(response);
+	        if (first == null) {
+	            throw new RuntimeException("Failed to fetch books for ID extraction. Catalog is empty");
+	        }
+	        return first.get("id").asInt();
 	    } else {
 	        throw new RuntimeException("Failed to fetch books for ID extraction. Status: " + response.getStatusCode());
 	    }
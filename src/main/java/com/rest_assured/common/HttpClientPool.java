@@ -0,0 +1,210 @@
+package com.rest_assured.common;
+
+import com.rest_assured.replay.RecordReplay;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.ConnectionConfig;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.config.SSLConfig;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.apache.http.conn.scheme.Scheme;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.conn.ssl.SSLSocketFactory;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.params.CoreConnectionPNames;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.pool.PoolStats;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps one keep-alive connection pool and one pre-built base RequestSpecification
+ * per base URL, so repeated calls reuse TCP/TLS connections instead of handshaking
+ * on every request. With pooling disabled the base spec only carries the URL.
+ *
+ * Tuned through ConfigManager:
+ *   http.pool.enabled          (default true)
+ *   http.pool.maxTotal         (default 200)
+ *   http.pool.maxPerRoute      (default 50)
+ *   http.pool.idleTimeoutMs    (default 30000)
+ *   http.pool.connectionTtlMs  (default 300000)
+ *   http.connectTimeoutMs      (default 10000, pooled or not)
+ *   http.socketTimeoutMs       (default 60000, pooled or not)
+ *   http.trustAllCerts         (default false) accept any https certificate, for
+ *                              environments with self-signed ones
+ */
+@SuppressWarnings("deprecation")
+public class HttpClientPool {
+
+    private static final ConfigManager CONFIG = ConfigManager.get();
+    private static final boolean ENABLED = CONFIG.isPoolEnabled();
+    private static final int MAX_TOTAL = CONFIG.getPoolMaxTotal();
+    private static final int MAX_PER_ROUTE = CONFIG.getPoolMaxPerRoute();
+    private static final long IDLE_TIMEOUT_MS = CONFIG.getPoolIdleTimeout().toMillis();
+    private static final long CONNECTION_TTL_MS = CONFIG.getPoolConnectionTtl().toMillis();
+    private static final int CONNECT_TIMEOUT_MS = (int) CONFIG.getConnectTimeout().toMillis();
+    private static final int SOCKET_TIMEOUT_MS = (int) CONFIG.getSocketTimeout().toMillis();
+    private static final boolean TRUST_ALL_CERTS = CONFIG.isTrustAllCerts();
+
+    private static final Map<String, RestAssuredConfig> CONFIGS = new ConcurrentHashMap<>();
+    private static final Map<String, RequestSpecification> SPECS = new ConcurrentHashMap<>();
+    private static final Map<String, RequestSpecification> STREAMING_SPECS = new ConcurrentHashMap<>();
+    private static final Map<String, PoolingClientConnectionManager> MANAGERS = new ConcurrentHashMap<>();
+
+    private static final ScheduledExecutorService EVICTOR = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "http-pool-evictor");
+        t.setDaemon(true);
+        return t;
+    });
+
+    static {
+        long period = Math.max(1_000L, IDLE_TIMEOUT_MS / 2);
+        EVICTOR.scheduleWithFixedDelay(HttpClientPool::evictStaleConnections, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    public static int maxPerRoute() {
+        return MAX_PER_ROUTE;
+    }
+
+    // Base spec for a given environment URL; built once, immutable and shared by all threads
+    public static RequestSpecification baseSpec(String baseUri) {
+        return SPECS.computeIfAbsent(baseUri, HttpClientPool::buildSpec);
+    }
+
+    /**
+     * Same connections as baseSpec, but a 2xx body is left unread so it can be
+     * consumed as a stream. The connection only goes back to the pool once that
+     * body has been read to the end or closed, so callers must always do one of the two.
+     * Error bodies are small and still buffered.
+     */
+    public static RequestSpecification streamingSpec(String baseUri) {
+        return STREAMING_SPECS.computeIfAbsent(baseUri, uri -> withRecordReplay(withGuards(uri, new RequestSpecBuilder()
+                .setBaseUri(uri)
+                .setConfig(config(uri))
+                .addFilter((requestSpec, responseSpec, ctx) -> {
+                    Response response = ctx.next(requestSpec, responseSpec);
+                    if (response.getStatusCode() / 100 != 2) {
+                        response.asByteArray();
+                    }
+                    return response;
+                })))
+                .build());
+    }
+
+    // Connections of every pool added up (leased, waiting for a lease, idle, max); all 0 with pooling off
+    public static PoolStats stats() {
+        int leased = 0;
+        int pending = 0;
+        int available = 0;
+        int max = 0;
+        for (PoolingClientConnectionManager manager : MANAGERS.values()) {
+            PoolStats stats = manager.getTotalStats();
+            leased += stats.getLeased();
+            pending += stats.getPending();
+            available += stats.getAvailable();
+            max += stats.getMax();
+        }
+        return new PoolStats(leased, pending, available, max);
+    }
+
+    public static void shutdown() {
+        EVICTOR.shutdownNow();
+        MANAGERS.values().forEach(PoolingClientConnectionManager::shutdown);
+        MANAGERS.clear();
+        CONFIGS.clear();
+        SPECS.clear();
+        STREAMING_SPECS.clear();
+    }
+
+    private static RequestSpecification buildSpec(String baseUri) {
+        RequestSpecBuilder builder = new RequestSpecBuilder().setBaseUri(baseUri).setConfig(config(baseUri));
+        if (ENABLED) {
+            builder.addFilter((requestSpec, responseSpec, ctx) -> {
+                Response response = ctx.next(requestSpec, responseSpec);
+                // Buffer the body right away so the connection goes back to the pool even if nobody reads it
+                response.asByteArray();
+                return response;
+            });
+        }
+        return withRecordReplay(withGuards(baseUri, builder)).build();
+    }
+
+    // CircuitBreaker fails calls fast while the backend is down; ratelimit.<env>.* holds requests back
+    private static RequestSpecBuilder withGuards(String baseUri, RequestSpecBuilder builder) {
+        builder.addFilter(CircuitBreaker.filterFor(baseUri));
+        OrderedFilter limit = RateLimiter.filterFor(baseUri);
+        return limit != null ? builder.addFilter(limit) : builder;
+    }
+
+    // replay.mode=record|replay: captures or serves the exchange in place of the network call
+    private static RequestSpecBuilder withRecordReplay(RequestSpecBuilder builder) {
+        return RecordReplay.isActive() ? builder.addFilter(RecordReplay.filter()) : builder;
+    }
+
+    private static RestAssuredConfig config(String baseUri) {
+        return CONFIGS.computeIfAbsent(baseUri, HttpClientPool::buildConfig);
+    }
+
+    private static RestAssuredConfig buildConfig(String baseUri) {
+        if (!ENABLED) {
+            // A fresh client per request, but never one that waits forever on a dead host
+            RestAssuredConfig config = RestAssuredConfig.config()
+                    .httpClient(HttpClientConfig.httpClientConfig()
+                            .setParam(CoreConnectionPNames.CONNECTION_TIMEOUT, CONNECT_TIMEOUT_MS)
+                            .setParam(CoreConnectionPNames.SO_TIMEOUT, SOCKET_TIMEOUT_MS));
+            return TRUST_ALL_CERTS ? config.sslConfig(SSLConfig.sslConfig().relaxedHTTPSValidation()) : config;
+        }
+
+        PoolingClientConnectionManager manager = new PoolingClientConnectionManager(
+                schemeRegistry(), CONNECTION_TTL_MS, TimeUnit.MILLISECONDS);
+        manager.setMaxTotal(MAX_TOTAL);
+        manager.setDefaultMaxPerRoute(MAX_PER_ROUTE);
+        MANAGERS.put(baseUri, manager);
+
+        DefaultHttpClient client = new DefaultHttpClient(manager);
+        HttpConnectionParams.setConnectionTimeout(client.getParams(), CONNECT_TIMEOUT_MS);
+        HttpConnectionParams.setSoTimeout(client.getParams(), SOCKET_TIMEOUT_MS);
+
+        return RestAssuredConfig.config()
+                .httpClient(HttpClientConfig.httpClientConfig()
+                        .httpClientFactory(() -> client)
+                        .reuseHttpClientInstance())
+                // Only drop connections that have really gone idle, never the one that was just used
+                .connectionConfig(ConnectionConfig.connectionConfig()
+                        .closeIdleConnectionsAfterEachResponseAfter(IDLE_TIMEOUT_MS, TimeUnit.MILLISECONDS));
+    }
+
+    // Fixed before the pool exists; RestAssured's relaxedHTTPSValidation() would re-register https on the shared client per call
+    private static SchemeRegistry schemeRegistry() {
+        SchemeRegistry registry = SchemeRegistryFactory.createDefault();
+        if (TRUST_ALL_CERTS) {
+            try {
+                SSLSocketFactory trustAll = new SSLSocketFactory((chain, authType) -> true,
+                        SSLSocketFactory.ALLOW_ALL_HOSTNAME_VERIFIER);
+                registry.register(new Scheme("https", 443, trustAll));
+            } catch (Exception e) {
+                throw new RuntimeException("Could not set up http.trustAllCerts", e);
+            }
+        }
+        return registry;
+    }
+
+    private static void evictStaleConnections() {
+        for (PoolingClientConnectionManager manager : MANAGERS.values()) {
+            manager.closeExpiredConnections();
+            manager.closeIdleConnections(IDLE_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+}
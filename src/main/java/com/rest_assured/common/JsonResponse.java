@@ -0,0 +1,175 @@
+package com.rest_assured.common;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A response whose body is read and parsed at most once, however many fields
+ * a test checks. Unlike response.jsonPath(), which re-parses the body through
+ * Groovy on every call, lookups here walk one Jackson tree.
+ *
+ *   JsonResponse json = JsonResponse.of(response);
+ *   json.getInt("id");
+ *   json.getString("[0].author");
+ *   Book book = json.as(Book.class);
+ *
+ * Paths use the RestAssured style ("detail", "[0].name", "items[2].id"; "" or
+ * "$" is the root) and are compiled to JsonPointers once per JVM. Missing paths
+ * give null. Meant for one thread at a time, like the Response it wraps.
+ */
+public class JsonResponse {
+
+    private static final Map<String, JsonPointer> PATHS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, ObjectReader> READERS = new ConcurrentHashMap<>();
+
+    private final Response response;
+    private String text;
+    private String prettyText;
+    private JsonNode root;
+
+    private JsonResponse(Response response) {
+        this.response = response;
+    }
+
+    public static JsonResponse of(Response response) {
+        return new JsonResponse(response);
+    }
+
+    public Response raw() {
+        return response;
+    }
+
+    public int getStatusCode() {
+        return response.getStatusCode();
+    }
+
+    public String asString() {
+        if (text == null) {
+            text = response.asString();
+        }
+        return text;
+    }
+
+    public String asPrettyString() {
+        if (prettyText == null) {
+            JsonNode json = json();
+            prettyText = json.isMissingNode() ? asString() : json.toPrettyString();
+        }
+        return prettyText;
+    }
+
+    // Whole body as a tree; MissingNode if it is empty or not JSON
+    public JsonNode json() {
+        if (root == null) {
+            try {
+                byte[] body = response.asByteArray();
+                JsonNode parsed = body.length == 0 ? null : Payloads.mapper().readTree(body);
+                root = parsed == null ? MissingNode.getInstance() : parsed;
+            } catch (IOException e) {
+                root = MissingNode.getInstance();
+            }
+        }
+        return root;
+    }
+
+    public JsonNode node(String path) {
+        return json().at(compile(path));
+    }
+
+    public boolean has(String path) {
+        JsonNode node = node(path);
+        return !node.isMissingNode() && !node.isNull();
+    }
+
+    // Text of a scalar, or the JSON of an object/array (e.g. a validation "detail" list)
+    public String getString(String path) {
+        JsonNode node = node(path);
+        if (node.isMissingNode() || node.isNull()) {
+            return null;
+        }
+        return node.isValueNode() ? node.asText() : node.toString();
+    }
+
+    public Integer getInt(String path) {
+        JsonNode node = node(path);
+        return node.isMissingNode() || node.isNull() ? null : node.asInt();
+    }
+
+    public Long getLong(String path) {
+        JsonNode node = node(path);
+        return node.isMissingNode() || node.isNull() ? null : node.asLong();
+    }
+
+    public Boolean getBoolean(String path) {
+        JsonNode node = node(path);
+        return node.isMissingNode() || node.isNull() ? null : node.asBoolean();
+    }
+
+    // Number of elements of an array or fields of an object; 0 when missing
+    public int size(String path) {
+        return node(path).size();
+    }
+
+    /**
+     * Maps the body (already parsed) onto a DTO such as Book.
+     *
+     * @throws RuntimeException if the body does not fit the type
+     */
+    public <T> T as(Class<T> type) {
+        return convert(json(), type);
+    }
+
+    public <T> List<T> asListOf(Class<T> type) {
+        List<T> items = new ArrayList<>(json().size());
+        for (JsonNode item : json()) {
+            items.add(convert(item, type));
+        }
+        return items;
+    }
+
+    // "[0].name" -> /0/name, "items[2].id" -> /items/2/id
+    public static JsonPointer compile(String path) {
+        JsonPointer pointer = PATHS.get(path);
+        return pointer != null ? pointer : PATHS.computeIfAbsent(path, JsonResponse::toPointer);
+    }
+
+    private static JsonPointer toPointer(String path) {
+        StringBuilder pointer = new StringBuilder();
+        StringBuilder segment = new StringBuilder();
+        String trimmed = path.startsWith("$") ? path.substring(1) : path;
+        for (char c : trimmed.toCharArray()) {
+            if (c == '.' || c == '[' || c == ']') {
+                appendSegment(pointer, segment);
+            } else {
+                segment.append(c);
+            }
+        }
+        appendSegment(pointer, segment);
+        return JsonPointer.compile(pointer.toString());
+    }
+
+    private static void appendSegment(StringBuilder pointer, StringBuilder segment) {
+        if (segment.length() > 0) {
+            pointer.append('/').append(segment.toString().replace("~", "~0").replace("/", "~1"));
+            segment.setLength(0);
+        }
+    }
+
+    private static <T> T convert(JsonNode node, Class<T> type) {
+        ObjectReader reader = READERS.computeIfAbsent(type, Payloads.mapper()::readerFor);
+        try {
+            return reader.treeToValue(node, type);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to map response to " + type.getSimpleName() + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.rest_assured.common;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.restassured.internal.support.CloseHTTPClientConnectionInputStreamWrapper;
+import io.restassured.response.Response;
+import org.apache.http.conn.EofSensorInputStream;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.util.function.Predicate;
+
+/**
+ * Reads a top-level JSON array (e.g. GET /books) one element at a time with
+ * Jackson's streaming parser, so only the current element is ever in memory,
+ * however large the catalog is.
+ *
+ *   Response response = ApiUtils.getStreamingRequest("/books", token);
+ *   JsonStreams.forEachElement(response, book -> {
+ *       ...
+ *       return true;   // false stops reading
+ *   });
+ *
+ * Stopping early drops the connection instead of draining the rest of the
+ * body, so taking the first book costs the same for 100 or 10 million rows.
+ */
+public class JsonStreams {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ObjectReader NODE_READER = MAPPER.readerFor(JsonNode.class);
+
+    /**
+     * Passes each array element to onElement until it returns false or the array ends.
+     *
+     * @return number of elements passed to onElement
+     * @throws RuntimeException if the body is not a JSON array
+     */
+    public static long forEachElement(Response response, Predicate<JsonNode> onElement) {
+        long count = 0;
+        try (MappingIterator<JsonNode> elements = elements(response)) {
+            while (elements.hasNextValue()) {
+                count++;
+                if (!onElement.test(elements.nextValue())) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to stream JSON array", e);
+        }
+        return count;
+    }
+
+    // Number of elements in the array, counted without keeping any of them
+    public static long count(Response response) {
+        return forEachElement(response, element -> true);
+    }
+
+    // First element, or null for an empty array
+    public static JsonNode first(Response response) {
+        JsonNode[] first = new JsonNode[1];
+        forEachElement(response, element -> {
+            first[0] = element;
+            return false;
+        });
+        return first[0];
+    }
+
+    /**
+     * Lazy iterator over the array elements. Close it (try-with-resources) when
+     * done; closing before the end releases the connection without reading the rest.
+     *
+     * @throws RuntimeException if the body is not a JSON array
+     */
+    public static MappingIterator<JsonNode> elements(Response response) throws IOException {
+        ReleasingStream body = new ReleasingStream(response.asInputStream());
+        JsonParser parser = MAPPER.getFactory().createParser(body);
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            parser.close();
+            throw new RuntimeException("Expected a JSON array but got " + parser.currentToken()
+                    + ". Status: " + response.getStatusCode());
+        }
+        if (parser.nextToken() == JsonToken.END_ARRAY) {
+            // Empty array: readValues would fail on the closing bracket
+            parser.close();
+            return MappingIterator.emptyIterator();
+        }
+        return NODE_READER.readValues(new ClosingAtEndParser(parser));
+    }
+
+    /**
+     * Closes the parser, and so the body, as soon as the top-level array ends.
+     * MappingIterator marks itself closed at that point without closing a parser
+     * it did not create, so closing the iterator afterwards would do nothing and
+     * the last bytes of the body would never be read: the connection would stay leased.
+     */
+    private static class ClosingAtEndParser extends JsonParserDelegate {
+
+        ClosingAtEndParser(JsonParser parser) {
+            super(parser);
+        }
+
+        @Override
+        public JsonToken nextToken() throws IOException {
+            JsonToken token = delegate.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY && delegate.getParsingContext().inRoot()) {
+                delegate.close();
+            }
+            return token;
+        }
+    }
+
+    /**
+     * On close, reads at most DRAIN_LIMIT more bytes (the parser usually stops
+     * just short of the end). If that reaches the end the connection goes back
+     * to the pool; otherwise the caller stopped early and the connection is dropped.
+     */
+    private static class ReleasingStream extends FilterInputStream {
+
+        private static final int DRAIN_LIMIT = 8192;
+        private static final Field RESTASSURED_WRAPPED = wrappedField();
+
+        private boolean eof;
+
+        private static Field wrappedField() {
+            try {
+                Field field = CloseHTTPClientConnectionInputStreamWrapper.class.getDeclaredField("wrapped");
+                field.setAccessible(true);
+                return field;
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                // Unknown RestAssured version: early stops fall back to draining the body
+                return null;
+            }
+        }
+
+        ReleasingStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            eof |= b < 0;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int off, int len) throws IOException {
+            int n = super.read(buffer, off, len);
+            eof |= n < 0;
+            return n;
+        }
+
+        @Override
+        public void close() throws IOException {
+            byte[] scratch = new byte[512];
+            for (int drained = 0; !eof && drained < DRAIN_LIMIT; ) {
+                int n = read(scratch, 0, scratch.length);
+                drained += Math.max(n, 0);
+            }
+            EofSensorInputStream connectionStream = eof ? null : connectionStream(in);
+            if (connectionStream != null) {
+                connectionStream.abortConnection();
+            } else {
+                super.close();
+            }
+        }
+
+        // HttpClient's own stream, unwrapped from RestAssured's close wrapper; closing that one would drain the body
+        private static EofSensorInputStream connectionStream(InputStream stream) {
+            if (stream instanceof EofSensorInputStream) {
+                return (EofSensorInputStream) stream;
+            }
+            if (RESTASSURED_WRAPPED != null && RESTASSURED_WRAPPED.getDeclaringClass().isInstance(stream)) {
+                try {
+                    return connectionStream((InputStream) RESTASSURED_WRAPPED.get(stream));
+                } catch (IllegalAccessException e) {
+                    return null;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.rest_assured.common;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A payload encoded once, with only a few top-level fields filled in per request.
+ *
+ *   PayloadTemplate template = PayloadTemplate.of(book, "id", "name");
+ *   byte[] body = template.render(42, "Dune");
+ *
+ * render() copies the fixed byte segments and encodes just the given values
+ * (strings are JSON-escaped; numbers, booleans and null are written as-is), so
+ * the model is never walked again. Values go in the order the fields were named,
+ * whatever order the model serializes them in.
+ */
+public class PayloadTemplate {
+
+    private static final String SLOT_MARKER = "\u0001slot\u0001";
+
+    private final byte[][] segments;
+    // order[k] is the index of the value that goes into the k-th slot of the payload
+    private final int[] order;
+    private final int fixedLength;
+
+    private PayloadTemplate(byte[][] segments, int[] order) {
+        this.segments = segments;
+        this.order = order;
+        this.fixedLength = Arrays.stream(segments).mapToInt(s -> s.length).sum();
+    }
+
+    /**
+     * @param model   request model (or Map) holding the fixed values
+     * @param fields  top-level fields whose value changes per request
+     * @throws RuntimeException if the model does not serialize to a JSON object
+     */
+    public static PayloadTemplate of(Object model, String... fields) {
+        ObjectNode node = Payloads.mapper().valueToTree(model);
+        for (int i = 0; i < fields.length; i++) {
+            node.put(fields[i], SLOT_MARKER + i);
+        }
+        String json = node.toString();
+
+        // Find every "<marker><i>" string first: the model decides the field order in the JSON, not the caller
+        int[] positions = new int[fields.length];
+        Integer[] slots = new Integer[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            positions[i] = json.indexOf(quotedSlot(i));
+            if (positions[i] < 0) {
+                throw new RuntimeException("Template field '" + fields[i] + "' not found in payload");
+            }
+            slots[i] = i;
+        }
+        Arrays.sort(slots, (a, b) -> Integer.compare(positions[a], positions[b]));
+
+        // Cut the encoded payload around each slot, in payload order
+        List<byte[]> segments = new ArrayList<>();
+        int[] order = new int[fields.length];
+        int from = 0;
+        for (int k = 0; k < slots.length; k++) {
+            int field = slots[k];
+            order[k] = field;
+            segments.add(json.substring(from, positions[field]).getBytes(StandardCharsets.UTF_8));
+            from = positions[field] + quotedSlot(field).length();
+        }
+        segments.add(json.substring(from).getBytes(StandardCharsets.UTF_8));
+        return new PayloadTemplate(segments.toArray(new byte[0][]), order);
+    }
+
+    private static String quotedSlot(int i) {
+        return "\"" + new String(JsonStringEncoder.getInstance().quoteAsString(SLOT_MARKER + i)) + "\"";
+    }
+
+    public byte[] render(Object... values) {
+        if (values.length != segments.length - 1) {
+            throw new IllegalArgumentException("Expected " + (segments.length - 1) + " values but got " + values.length);
+        }
+        byte[][] encoded = new byte[values.length][];
+        int length = fixedLength;
+        for (int i = 0; i < values.length; i++) {
+            encoded[i] = encode(values[i]);
+            length += encoded[i].length + (isQuoted(values[i]) ? 2 : 0);
+        }
+
+        // One exact-size array per request; nothing else is allocated for the fixed parts
+        byte[] body = new byte[length];
+        int at = 0;
+        for (int k = 0; k < values.length; k++) {
+            int i = order[k];
+            at = copy(segments[k], body, at);
+            if (isQuoted(values[i])) {
+                body[at++] = '"';
+                at = copy(encoded[i], body, at);
+                body[at++] = '"';
+            } else {
+                at = copy(encoded[i], body, at);
+            }
+        }
+        copy(segments[values.length], body, at);
+        return body;
+    }
+
+    private static boolean isQuoted(Object value) {
+        return !(value == null || value instanceof Number || value instanceof Boolean);
+    }
+
+    private static byte[] encode(Object value) {
+        if (!isQuoted(value)) {
+            return String.valueOf(value).getBytes(StandardCharsets.US_ASCII);
+        }
+        return JsonStringEncoder.getInstance().quoteAsUTF8(value.toString());
+    }
+
+    private static int copy(byte[] source, byte[] target, int at) {
+        System.arraycopy(source, 0, target, at, source.length);
+        return at + source.length;
+    }
+}
@@ -0,0 +1,42 @@
+package com.rest_assured.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serializes request models (Book, UserCredentials, ...) to UTF-8 bytes.
+ *
+ * One ObjectWriter per model class is built on first use with its serializer
+ * already resolved, and Jackson recycles its encoding buffers between calls,
+ * so a payload costs one byte[] and no intermediate String or JSONObject.
+ * Send the result with the byte[] overloads of ApiUtils.
+ */
+public class Payloads {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Map<Class<?>, ObjectWriter> WRITERS = new ConcurrentHashMap<>();
+
+    public static ObjectMapper mapper() {
+        return MAPPER;
+    }
+
+    public static ObjectWriter writerFor(Class<?> type) {
+        ObjectWriter writer = WRITERS.get(type);
+        return writer != null ? writer : WRITERS.computeIfAbsent(type, MAPPER::writerFor);
+    }
+
+    /**
+     * @throws RuntimeException if the payload cannot be serialized
+     */
+    public static byte[] toJson(Object payload) {
+        try {
+            return writerFor(payload.getClass()).writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize " + payload.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+    }
+}
@@ -1,33 +1,110 @@
 package com.rest_assured.common;
 
-import java.util.Random;
-import java.util.UUID;
+import com.rest_assured.model.Book;
 
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+
+/**
+ * Test data for books and users, safe to call from any number of threads.
+ *
+ * - Book IDs come from a block of data.idBlockSize IDs reserved for this run
+ *   (picked at random, or fixed with data.idBase) and handed out by one atomic
+ *   counter, so they never repeat within a run and rarely meet an earlier run's.
+ * - Emails carry a random per-run token plus a counter instead of the clock.
+ * - Random values come from ThreadLocalRandom, which threads never share. With
+ *   data.seed set, each thread gets its own SplittableRandom split from that seed
+ *   instead, so a single-threaded run produces the same names, authors and years
+ *   every time. IDs and emails stay unique regardless of the seed.
+ */
 public class RandomDataGenerator {
 
-    private static final Random random = new Random();
+    // Leaves 1..99,999,999 to hand-made data and the catalog seeder
+    private static final long ID_SPACE_START = 100_000_000L;
+    private static final long ID_SPACE_END = Integer.MAX_VALUE;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private static final ConfigManager CONFIG = ConfigManager.get();
+    private static final long ID_BLOCK_SIZE = CONFIG.getLong("data.idBlockSize", 100_000L);
+    private static final long ID_BASE = idBase();
+    private static final AtomicLong nextId = new AtomicLong(ID_BASE);
+
+    private static final String RUN_TOKEN = Long.toString(ThreadLocalRandom.current().nextLong(1L << 40), 36);
+    private static final AtomicLong emailSequence = new AtomicLong();
+
+    private static final String SEED = CONFIG.getString("data.seed", null);
+    private static final SplittableRandom SEEDED_ROOT = SEED == null ? null : new SplittableRandom(Long.parseLong(SEED));
+    private static final ThreadLocal<SplittableRandom> SEEDED = ThreadLocal.withInitial(RandomDataGenerator::split);
 
     public static String generateUniqueEmail(String baseName) {
-        return baseName + "+" + System.currentTimeMillis() + "@gmail.com";
+        return baseName + "+" + RUN_TOKEN + "." + emailSequence.incrementAndGet() + "@gmail.com";
     }
 
     public static String generateRandomName() {
-        return "Book_" + UUID.randomUUID().toString().substring(0, 8);
+        return "Book_" + hex(random().nextInt(), 8);
     }
 
     public static String generateRandomAuthor() {
-        return "Author_" + UUID.randomUUID().toString().substring(0, 6);
+        return "Author_" + hex(random().nextInt(), 6);
     }
 
     public static String generateRandomSummary() {
         return "This is a summary of book " + generateRandomName();
     }
 
+    /**
+     * Next book ID of this run; unique within the run. The name is kept for
+     * existing callers, the value is no longer random.
+     *
+     * @throws RuntimeException once data.idBlockSize IDs have been handed out
+     */
     public static int generateRandomId() {
-        return 1000 + random.nextInt(9000); // Random ID between 1000 and 9999
+        long id = nextId.getAndIncrement();
+        if (id >= ID_BASE + ID_BLOCK_SIZE) {
+            throw new RuntimeException("Book ID block exhausted after " + ID_BLOCK_SIZE + " ids; raise data.idBlockSize");
+        }
+        return (int) id;
     }
 
     public static int generateRandomPublishedYear() {
-        return 1990 + random.nextInt(35); // Random year between 1990 and 2024
+        return 1990 + random().nextInt(35); // Random year between 1990 and 2024
+    }
+
+    // A complete, valid book with a fresh ID
+    public static Book generateRandomBook() {
+        return new Book(generateRandomId(), generateRandomName(), generateRandomAuthor(),
+                generateRandomPublishedYear(), generateRandomSummary());
+    }
+
+    // Shared source for any other random test values
+    public static RandomGenerator random() {
+        return SEEDED_ROOT == null ? ThreadLocalRandom.current() : SEEDED.get();
+    }
+
+    private static long idBase() {
+        long configured = CONFIG.getLong("data.idBase", -1L);
+        if (configured >= 0) {
+            return configured;
+        }
+        long blocks = (ID_SPACE_END - ID_SPACE_START) / ID_BLOCK_SIZE;
+        return ID_SPACE_START + ThreadLocalRandom.current().nextLong(blocks) * ID_BLOCK_SIZE;
+    }
+
+    private static SplittableRandom split() {
+        synchronized (SEEDED_ROOT) {
+            return SEEDED_ROOT.split();
+        }
+    }
+
+    // Lowest `digits` hex digits of value, without the boxing and formatting of String.format
+    private static String hex(int value, int digits) {
+        char[] chars = new char[digits];
+        for (int i = digits - 1; i >= 0; i--) {
+            chars[i] = HEX[value & 0xF];
+            value >>>= 4;
+        }
+        return new String(chars);
     }
 }
@@ -0,0 +1,215 @@
+package com.rest_assured.common;
+
+import com.rest_assured.replay.RecordReplay;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Client-side limits on how hard the framework may hit an environment: a token
+ * bucket for requests per second and a cap on requests in flight, so parallel
+ * suites and load runs cannot overwhelm a shared stage or prod.
+ *
+ * Limits are set per environment, and optionally per first path segment on top:
+ *   ratelimit.<env>.rps                   requests per second (unset: no limit)
+ *   ratelimit.<env>.burst                 requests let through at once after a pause (default: rps)
+ *   ratelimit.<env>.maxInFlight           requests on the wire at once (unset: no limit)
+ *   ratelimit.<env>.rps.<segment>         same three, for e.g. /signup only;
+ *   ratelimit.<env>.burst.<segment>       a request must pass both its endpoint's
+ *   ratelimit.<env>.maxInFlight.<segment> and its environment's limits
+ *
+ * The environment is the one whose <env>.url is the request's base URL, else the
+ * configured env. While under its limits a request costs one CAS and one
+ * semaphore tryAcquire. Time spent waiting is not counted as service latency,
+ * but is counted and reported by report().
+ */
+public class RateLimiter {
+
+    private static final ConfigManager CONFIG = ConfigManager.get();
+    private static final boolean ENABLED = CONFIG.getBoolean("ratelimit.enabled", true);
+    private static final RateLimiter NONE = new RateLimiter("none", 0, 0, 0);
+
+    private static final Map<String, RateLimiter> LIMITERS = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final Semaphore inFlight;
+    private final double rps;
+    private final int maxInFlight;
+
+    // Theoretical arrival time of the next request (GCRA form of the token bucket)
+    private final AtomicLong next = new AtomicLong(System.nanoTime());
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder waitedNanos = new LongAdder();
+    private volatile boolean announced;
+
+    RateLimiter(String name, double rps, int burst, int maxInFlight) {
+        this.name = name;
+        this.rps = rps;
+        this.maxInFlight = maxInFlight;
+        this.intervalNanos = rps > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / rps) : 0;
+        this.toleranceNanos = intervalNanos * (Math.max(1, burst) - 1);
+        this.inFlight = maxInFlight > 0 ? new Semaphore(maxInFlight) : null;
+    }
+
+    /**
+     * Filter enforcing the limits of the environment behind baseUri, or null when
+     * limiting is off (ratelimit.enabled=false, or replaying recorded exchanges).
+     */
+    public static OrderedFilter filterFor(String baseUri) {
+        if (!ENABLED || RecordReplay.mode() == RecordReplay.Mode.REPLAY) {
+            return null;
+        }
+        String env = CONFIG.envFor(baseUri);
+        RateLimiter envLimiter = limiter(env, null);
+        Map<String, RateLimiter> bySegment = new ConcurrentHashMap<>();
+        return new OrderedFilter() {
+            @Override
+            public Response filter(FilterableRequestSpecification requestSpec,
+                                   FilterableResponseSpecification responseSpec, FilterContext ctx) {
+                String segment = firstSegment(requestSpec.getUserDefinedPath());
+                RateLimiter endpointLimiter = bySegment.get(segment);
+                if (endpointLimiter == null) {
+                    endpointLimiter = bySegment.computeIfAbsent(segment, s -> limiter(env, s));
+                }
+                return withPermits(endpointLimiter, envLimiter, () -> ctx.next(requestSpec, responseSpec));
+            }
+
+            // Just inside CircuitBreaker and outside LatencyRecorder, so waiting for a permit is not service latency
+            @Override
+            public int getOrder() {
+                return OrderedFilter.HIGHEST_PRECEDENCE + 1;
+            }
+        };
+    }
+
+    // One line per limiter that had to hold requests back; empty when none did
+    public static String report() {
+        StringBuilder sb = new StringBuilder();
+        for (RateLimiter limiter : new TreeMap<>(LIMITERS).values()) {
+            long throttled = limiter.throttled.sum();
+            if (throttled > 0) {
+                sb.append(String.format("[RATE] %-24s %s: %d request(s) held back, %.1fs waited in total%n",
+                        limiter.name, limiter.describe(), throttled, limiter.waitedNanos.sum() / 1e9));
+            }
+        }
+        return sb.toString();
+    }
+
+    // Narrow limit first: a request queued on its endpoint must not hold an environment permit meanwhile
+    static <T> T withPermits(RateLimiter endpoint, RateLimiter environment, Supplier<T> call) {
+        endpoint.acquire();
+        try {
+            environment.acquire();
+            try {
+                return call.get();
+            } finally {
+                environment.release();
+            }
+        } finally {
+            endpoint.release();
+        }
+    }
+
+    // Shared by every base URL of the same environment
+    private static RateLimiter limiter(String env, String segment) {
+        String key = segment == null ? env : env + " /" + segment;
+        return LIMITERS.computeIfAbsent(key, k -> create(k, env, segment));
+    }
+
+    private static RateLimiter create(String name, String env, String segment) {
+        String suffix = segment == null ? "" : "." + segment;
+        double rps = CONFIG.getDouble("ratelimit." + env + ".rps" + suffix, 0);
+        int burst = CONFIG.getInt("ratelimit." + env + ".burst" + suffix, (int) Math.ceil(rps));
+        int maxInFlight = CONFIG.getInt("ratelimit." + env + ".maxInFlight" + suffix, 0);
+        return rps > 0 || maxInFlight > 0 ? new RateLimiter(name, rps, burst, maxInFlight) : NONE;
+    }
+
+    // "/books/12?x=1" -> "books"; "" for the root
+    private static String firstSegment(String path) {
+        int start = path.startsWith("/") ? 1 : 0;
+        int end = start;
+        while (end < path.length() && path.charAt(end) != '/' && path.charAt(end) != '?') {
+            end++;
+        }
+        return path.substring(start, end);
+    }
+
+    private void acquire() {
+        if (this == NONE) {
+            return;
+        }
+        long waited = 0;
+        if (intervalNanos > 0) {
+            long now = System.nanoTime();
+            long allowedAt = reserve(now);
+            if (allowedAt > now) {
+                parkUntil(allowedAt);
+                waited += System.nanoTime() - now;
+            }
+        }
+        if (inFlight != null && !inFlight.tryAcquire()) {
+            long start = System.nanoTime();
+            try {
+                inFlight.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted waiting for an in-flight slot of " + name, e);
+            }
+            waited += System.nanoTime() - start;
+        }
+        if (waited > 0) {
+            throttled.increment();
+            waitedNanos.add(waited);
+            if (!announced) {
+                announced = true;
+                System.out.println("[RATE] Throttling " + name + " at " + describe());
+            }
+        }
+    }
+
+    /**
+     * Reserves the next request slot at time `now` (System.nanoTime) and returns
+     * when that request may be sent; at or before `now` while the bucket holds a token.
+     */
+    long reserve(long now) {
+        long tat;
+        do {
+            tat = next.get();
+        } while (!next.compareAndSet(tat, Math.max(tat, now) + intervalNanos));
+        return tat - toleranceNanos;
+    }
+
+    private void release() {
+        if (inFlight != null) {
+            inFlight.release();
+        }
+    }
+
+    private String describe() {
+        return (rps > 0 ? String.format("%.1f req/s", rps) : "no rate limit")
+                + (maxInFlight > 0 ? ", " + maxInFlight + " in flight" : "");
+    }
+
+    private static void parkUntil(long nanoTime) {
+        for (long left = nanoTime - System.nanoTime(); left > 0; left = nanoTime - System.nanoTime()) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new RuntimeException("Interrupted waiting for a rate limit permit");
+            }
+            LockSupport.parkNanos(left);
+        }
+    }
+}
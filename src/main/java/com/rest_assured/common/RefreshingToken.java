@@ -0,0 +1,90 @@
+package com.rest_assured.common;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The cached, self-refreshing access token of one user.
+ *
+ * - The token's JWT "exp" claim decides when it is stale.
+ * - Within token.refreshAheadSec (default 120s) of expiry, the first caller
+ *   triggers a background login while everyone keeps using the still-valid token.
+ * - If the token has already expired, only one caller logs in; the rest wait for
+ *   it and reuse its result.
+ */
+public class RefreshingToken {
+
+    private static final Duration REFRESH_AHEAD = ConfigManager.get().getTokenRefreshAhead();
+    private static final ExecutorService REFRESHER =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("token-refresh-", 0).factory());
+
+    private final String email;
+    private final String password;
+
+    // ReentrantLock rather than synchronized: login does network I/O and must not pin virtual threads
+    private final ReentrantLock loginLock = new ReentrantLock();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile AccessToken accessToken;
+
+    public RefreshingToken(String email, String password) {
+        this.email = email;
+        this.password = password;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String get() {
+        AccessToken token = accessToken;
+        if (token == null || token.isExpired()) {
+            return loginOnce(token).getValue();
+        }
+        if (token.needsRefresh(REFRESH_AHEAD)) {
+            refreshInBackground(token);
+        }
+        return token.getValue();
+    }
+
+    public void set(String token) {
+        accessToken = token == null ? null : AccessToken.of(token);
+    }
+
+    public void clear() {
+        accessToken = null;
+    }
+
+    // Single flight: whoever gets the lock logs in, later arrivals pick up the fresh token
+    private AccessToken loginOnce(AccessToken stale) {
+        loginLock.lock();
+        try {
+            AccessToken current = accessToken;
+            if (current != stale && current != null && !current.isExpired()) {
+                return current;
+            }
+            accessToken = TokenManager.login(email, password);
+            return accessToken;
+        } finally {
+            loginLock.unlock();
+        }
+    }
+
+    private void refreshInBackground(AccessToken seen) {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        REFRESHER.execute(() -> {
+            try {
+                loginOnce(seen);
+            } catch (RuntimeException e) {
+                // The old token is still valid; the next caller in the window will retry
+                System.out.println("[WARNING] Background token refresh failed for " + email + ": " + e.getMessage());
+            } finally {
+                refreshing.set(false);
+            }
+        });
+    }
+}
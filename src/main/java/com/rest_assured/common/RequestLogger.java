@@ -0,0 +1,227 @@
+package com.rest_assured.common;
+
+import com.rest_assured.perf.LatencyRecorder;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Request/response log for every ApiUtils call, written off the calling thread.
+ *
+ * - Failures (status >= 400 or an exception) are always logged with the
+ *   request and a pretty-printed response body of up to log.failureMaxBodyChars.
+ * - Successes are sampled per endpoint: log.sampleRate.<first path segment>
+ *   (e.g. log.sampleRate.books), else log.sampleRate. A sampled success is one
+ *   line with the body cut to log.maxBodyChars, never pretty-printed.
+ * - Entries go into a bounded queue of log.bufferSize drained by one writer
+ *   thread. When it is full, successes are dropped and failures evict the oldest
+ *   entry, so callers never wait on System.out. Drops are counted and reported.
+ */
+public class RequestLogger {
+
+    private static final ConfigManager CONFIG = ConfigManager.get();
+    private static final boolean ENABLED = CONFIG.getBoolean("log.enabled", true);
+    private static final double DEFAULT_SAMPLE_RATE = CONFIG.getDouble("log.sampleRate", 0.1);
+    private static final int MAX_BODY_CHARS = CONFIG.getInt("log.maxBodyChars", 512);
+    private static final int FAILURE_MAX_BODY_CHARS = CONFIG.getInt("log.failureMaxBodyChars", 65_536);
+    private static final int BUFFER_SIZE = CONFIG.getInt("log.bufferSize", 8192);
+    private static final int BATCH_SIZE = 256;
+
+    private static final Map<String, Double> SAMPLE_RATES = new ConcurrentHashMap<>();
+    private static final BlockingQueue<Entry> QUEUE = new ArrayBlockingQueue<>(BUFFER_SIZE);
+    private static final AtomicLong ENQUEUED = new AtomicLong();
+    private static final AtomicLong WRITTEN = new AtomicLong();
+    private static final AtomicLong DROPPED = new AtomicLong();
+
+    private static final OrderedFilter FILTER = new OrderedFilter() {
+        @Override
+        public Response filter(FilterableRequestSpecification requestSpec,
+                               FilterableResponseSpecification responseSpec, FilterContext ctx) {
+            long start = System.nanoTime();
+            try {
+                Response response = ctx.next(requestSpec, responseSpec);
+                log(requestSpec, response, null, System.nanoTime() - start);
+                return response;
+            } catch (RuntimeException e) {
+                log(requestSpec, null, e, System.nanoTime() - start);
+                throw e;
+            }
+        }
+
+        // Just inside LatencyRecorder, so its timing includes logging's (small) cost
+        @Override
+        public int getOrder() {
+            return OrderedFilter.HIGHEST_PRECEDENCE + 3;
+        }
+    };
+
+    static {
+        Thread.ofPlatform().name("api-log-writer").daemon().start(RequestLogger::drainForever);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> flush(TimeUnit.SECONDS.toNanos(2))));
+    }
+
+    public static OrderedFilter filter() {
+        return FILTER;
+    }
+
+    public static long dropped() {
+        return DROPPED.get();
+    }
+
+    /**
+     * Waits until everything logged so far has been written, or the timeout passes.
+     */
+    public static void flush(long timeoutNanos) {
+        long target = ENQUEUED.get() - DROPPED.get();
+        long deadline = System.nanoTime() + timeoutNanos;
+        while (WRITTEN.get() < target && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(5));
+        }
+        System.out.flush();
+    }
+
+    private static void log(FilterableRequestSpecification requestSpec, Response response, Throwable error, long nanos) {
+        if (!ENABLED) {
+            return;
+        }
+        String endpoint = LatencyRecorder.key(requestSpec.getMethod(), requestSpec.getURI());
+        boolean failed = error != null || response.getStatusCode() >= 400;
+        if (!failed && ThreadLocalRandom.current().nextDouble() >= sampleRate(endpoint)) {
+            return;
+        }
+
+        Entry entry = new Entry();
+        entry.endpoint = endpoint;
+        entry.uri = requestSpec.getURI();
+        entry.nanos = nanos;
+        entry.failed = failed;
+        entry.status = response == null ? -1 : response.getStatusCode();
+        entry.error = error == null ? null : error.toString();
+        if (failed) {
+            Object body = requestSpec.getBody();
+            entry.requestBody = body instanceof byte[] ? new String((byte[]) body, StandardCharsets.UTF_8)
+                    : body == null ? null : body.toString();
+            // Full buffered body; cut and pretty-printed on the writer thread
+            entry.responseBody = response == null ? null : response.asByteArray();
+        } else {
+            byte[] body = response.asByteArray();
+            entry.responseBody = body.length <= MAX_BODY_CHARS ? body : Arrays.copyOf(body, MAX_BODY_CHARS);
+            entry.truncatedFrom = body.length;
+        }
+        enqueue(entry);
+    }
+
+    private static void enqueue(Entry entry) {
+        ENQUEUED.incrementAndGet();
+        if (QUEUE.offer(entry)) {
+            return;
+        }
+        if (entry.failed && QUEUE.poll() != null) {
+            DROPPED.incrementAndGet();
+            if (QUEUE.offer(entry)) {
+                return;
+            }
+        }
+        DROPPED.incrementAndGet();
+    }
+
+    // log.sampleRate.books for "GET /books/{id}", falling back to log.sampleRate
+    private static double sampleRate(String endpoint) {
+        return SAMPLE_RATES.computeIfAbsent(endpoint, key -> {
+            String path = key.substring(key.indexOf(' ') + 1);
+            String[] segments = path.split("/");
+            String first = segments.length > 1 ? segments[1] : "root";
+            return CONFIG.getDouble("log.sampleRate." + first, DEFAULT_SAMPLE_RATE);
+        });
+    }
+
+    private static void drainForever() {
+        List<Entry> batch = new ArrayList<>(BATCH_SIZE);
+        StringBuilder out = new StringBuilder();
+        long reportedDrops = 0;
+        while (true) {
+            try {
+                batch.add(QUEUE.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            QUEUE.drainTo(batch, BATCH_SIZE - 1);
+            for (Entry entry : batch) {
+                format(entry, out);
+            }
+            long drops = DROPPED.get();
+            if (drops > reportedDrops) {
+                out.append("[api-log] ").append(drops - reportedDrops).append(" entries dropped (log buffer full)\n");
+                reportedDrops = drops;
+            }
+            System.out.print(out);
+            WRITTEN.addAndGet(batch.size());
+            batch.clear();
+            out.setLength(0);
+        }
+    }
+
+    private static void format(Entry entry, StringBuilder out) {
+        String millis = String.format("%.1fms", entry.nanos / 1e6);
+        if (!entry.failed) {
+            out.append("[api] ").append(entry.endpoint).append(' ').append(entry.status).append(' ').append(millis)
+                    .append(' ').append(new String(entry.responseBody, StandardCharsets.UTF_8).replace('\n', ' '));
+            if (entry.truncatedFrom > entry.responseBody.length) {
+                out.append("... (").append(entry.truncatedFrom).append(" bytes)");
+            }
+            out.append('\n');
+            return;
+        }
+
+        out.append("====== [api] FAILED ").append(entry.endpoint).append(" -> ")
+                .append(entry.status < 0 ? entry.error : String.valueOf(entry.status))
+                .append(" in ").append(millis).append(" ======\n");
+        out.append("URI: ").append(entry.uri).append('\n');
+        if (entry.requestBody != null && !entry.requestBody.isEmpty()) {
+            out.append("Request Body:\n").append(truncate(entry.requestBody, FAILURE_MAX_BODY_CHARS)).append('\n');
+        }
+        if (entry.responseBody != null) {
+            out.append("Response Body:\n").append(truncate(pretty(entry.responseBody), FAILURE_MAX_BODY_CHARS)).append('\n');
+        }
+    }
+
+    private static String pretty(byte[] body) {
+        try {
+            return Payloads.mapper().readTree(body).toPrettyString();
+        } catch (Exception e) {
+            return new String(body, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String truncate(String text, int maxChars) {
+        return text.length() <= maxChars ? text
+                : text.substring(0, maxChars) + "\n... (" + (text.length() - maxChars) + " more chars)";
+    }
+
+    private static class Entry {
+        String endpoint;
+        String uri;
+        long nanos;
+        boolean failed;
+        int status;
+        String error;
+        String requestBody;
+        byte[] responseBody;
+        int truncatedFrom;
+    }
+}
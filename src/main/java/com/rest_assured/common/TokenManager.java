@@ -2,35 +2,41 @@ package com.rest_assured.common;
 
 import io.restassured.response.Response;
 
-import static io.restassured.RestAssured.*;
-
 import com.rest_assured.constants.InputConstants;
+import com.rest_assured.model.UserCredentials;
 
+/**
+ * Access token of the default test user (InputConstants.USERNAME).
+ * Expiry tracking and single-flight refresh live in RefreshingToken.
+ */
 public class TokenManager {
 
-    private static String accessToken;
+    private static final RefreshingToken DEFAULT_USER =
+            new RefreshingToken(InputConstants.USERNAME, InputConstants.PASSWORD);
 
     public static String getToken() {
-        if (accessToken == null) {
-            Response response = given()
-                .header("Content-Type", "application/json")
-                .body("{\"email\":\"" + InputConstants.USERNAME + "\",\"password\":\"" + InputConstants.PASSWORD + "\"}")
-                .post("/login");
-
-            if (response.getStatusCode() == 200) {
-                accessToken = response.jsonPath().getString("access_token");
-            } else {
-                throw new RuntimeException("Failed to fetch token. Status: " + response.getStatusCode());
-            }
-        }
-        return accessToken;
+        return DEFAULT_USER.get();
     }
 
     public static void setToken(String token) {
-        accessToken = token;
+        DEFAULT_USER.set(token);
     }
 
     public static void clearToken() {
-        accessToken = null;
+        DEFAULT_USER.clear();
+    }
+
+    /**
+     * Logs in with the given credentials and returns the decoded token.
+     *
+     * @throws RuntimeException if /login does not answer 200
+     */
+    public static AccessToken login(String email, String password) {
+        Response response = ApiUtils.postRequest("/login", Payloads.toJson(new UserCredentials(email, password)));
+
+        if (response.getStatusCode() == 200) {
+            return AccessToken.of(JsonResponse.of(response).getString("access_token"));
+        }
+        throw new RuntimeException("Failed to fetch token. Status: " + response.getStatusCode());
     }
 }
@@ -0,0 +1,80 @@
+package com.rest_assured.common;
+
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.rest_assured.constants.InputConstants;
+
+/**
+ * A set of distinct signed-up users with their own self-refreshing tokens,
+ * so load can be spread over many identities instead of InputConstants.USERNAME.
+ *
+ * Usage:
+ *   TokenPool pool = TokenPool.provision(500);
+ *   ApiUtils.getRequest("/books", pool.nextToken());          // round-robin
+ *   ApiUtils.getRequest("/books", pool.tokenFor(virtualUser)); // sticky per virtual user
+ */
+public class TokenPool {
+
+    private final List<RefreshingToken> users;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private TokenPool(List<RefreshingToken> users) {
+        this.users = users;
+    }
+
+    /**
+     * Signs up and logs in {@code size} new users in parallel through AsyncApiUtils.
+     *
+     * @throws RuntimeException if any signup or login fails
+     */
+    public static TokenPool provision(int size) {
+        String password = InputConstants.Signup_Password;
+        List<CompletableFuture<RefreshingToken>> pending = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            String email = RandomDataGenerator.generateUniqueEmail(InputConstants.SignUp_Name + "_pool" + i);
+            pending.add(AsyncApiUtils.submit(() -> {
+                requireCreated(email, SignUpUser.signUpUser(email, password));
+                RefreshingToken token = new RefreshingToken(email, password);
+                token.get(); // log in up front so the first request doesn't pay for it
+                return token;
+            }));
+        }
+
+        List<RefreshingToken> users = new ArrayList<>(size);
+        for (CompletableFuture<RefreshingToken> user : pending) {
+            users.add(user.join());
+        }
+        System.out.println("Provisioned token pool with " + size + " users");
+        return new TokenPool(Collections.unmodifiableList(users));
+    }
+
+    public int size() {
+        return users.size();
+    }
+
+    public String nextToken() {
+        return users.get(Math.floorMod(next.getAndIncrement(), users.size())).get();
+    }
+
+    // The same virtual user always gets the same identity
+    public String tokenFor(int virtualUser) {
+        return users.get(Math.floorMod(virtualUser, users.size())).get();
+    }
+
+    public List<RefreshingToken> getUsers() {
+        return users;
+    }
+
+    private static void requireCreated(String email, Response response) {
+        if (response.getStatusCode() != 200) {
+            throw new RuntimeException("Failed to sign up pool user " + email + ". Status: " + response.getStatusCode());
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.rest_assured.load;
+
+import com.project.base.BaseClass;
+import com.rest_assured.common.ApiUtils;
+import com.rest_assured.common.BookFixtures;
+import com.rest_assured.common.ConfigManager;
+import com.rest_assured.common.JsonResponse;
+import com.rest_assured.common.JsonStreams;
+import com.rest_assured.common.Payloads;
+import com.rest_assured.common.RandomDataGenerator;
+import com.rest_assured.common.RateLimiter;
+import com.rest_assured.constants.InputConstants;
+import com.rest_assured.model.Book;
+import com.rest_assured.model.UserCredentials;
+import com.rest_assured.perf.LatencyRecorder;
+import com.rest_assured.perf.PerfRegression;
+import com.rest_assured.perf.PerfRun;
+
+import java.time.Duration;
+
+/**
+ * The bookstore's user journeys, following the flow the test classes cover one
+ * call at a time (SignUpAPI -> LoginApi -> CreateBookApi -> GetBookByIdApi ->
+ * UpdateBookApi -> DeleteBookApi), and a runner for a weighted mix of them.
+ *
+ *   mvn -q compile exec:java -Dexec.mainClass=com.rest_assured.load.BookstoreJourneys \
+ *       -Djourney.users=200 -Djourney.durationSec=600 -Djourney.mix=browse:80,edit:15,signup:5
+ *
+ * Journeys: browse (list the catalog, open a book), edit (create, read, update
+ * and delete a book) and signup (a new user going through the whole flow).
+ *
+ * Exits with 1 when any step failed or the run regressed against its
+ * performance history.
+ */
+public class BookstoreJourneys {
+
+    private static final ConfigManager CONFIG = ConfigManager.get();
+    // A token is reused for this long before the user logs in again
+    private static final Duration TOKEN_REUSE = Duration.ofMinutes(10);
+
+    public static void main(String[] args) {
+        new BaseClass().setup();
+
+        JourneyEngine engine = new JourneyEngine(CONFIG.getInt("journey.users", 50),
+                CONFIG.getSeconds("journey.durationSec", 300L))
+                .rampUp(CONFIG.getSeconds("journey.rampUpSec", 30L));
+        for (String entry : CONFIG.getString("journey.mix", "browse:80,edit:15,signup:5").split(",")) {
+            String[] parts = entry.trim().split(":");
+            engine.add(journey(parts[0]), parts.length > 1 ? Integer.parseInt(parts[1]) : 1);
+        }
+
+        LoadResult result = engine.run();
+        result.print();
+        System.out.println("====== Service Latency ======");
+        System.out.print(LatencyRecorder.report());
+        System.out.print(RateLimiter.report());
+        PerfRegression regression = PerfRun.finish("journeys", result.toPerfSamples(System.currentTimeMillis()));
+        BookFixtures.cleanup();
+        System.exit(result.totalFailures() > 0 || regression != null && regression.hasRegressions() ? 1 : 0);
+    }
+
+    static Journey journey(String name) {
+        switch (name) {
+            case "browse":
+                return browse();
+            case "edit":
+                return edit();
+            case "signup":
+                return signup();
+            default:
+                throw new IllegalArgumentException("Unknown journey: " + name);
+        }
+    }
+
+    // Lists the catalog and opens the first book, as the shared test user
+    public static Journey browse() {
+        return login(Journey.named("browse"))
+                .think(Duration.ofSeconds(1), Duration.ofSeconds(3))
+                .step("GET /books", ctx -> ApiUtils.getStreamingRequest("/books", ctx.getString("token")))
+                // Only the first book is read; the rest of the catalog is never downloaded
+                .extract((ctx, response) -> ctx.put("bookId", JsonStreams.first(response).get("id").asInt()))
+                .think(Duration.ofSeconds(2), Duration.ofSeconds(5))
+                .step("GET /books/{id}", ctx -> ApiUtils.getRequest("/books/" + ctx.getInt("bookId"), ctx.getString("token")));
+    }
+
+    // Creates, reads, updates and deletes one book, as the shared test user
+    public static Journey edit() {
+        return crud(login(Journey.named("edit")));
+    }
+
+    // A new user signs up, logs in and goes through the book flow
+    public static Journey signup() {
+        Journey journey = Journey.named("signup")
+                .step("POST /signup", ctx -> {
+                    ctx.put("email", RandomDataGenerator.generateUniqueEmail(InputConstants.SignUp_Name));
+                    return ApiUtils.postRequest("/signup", Payloads.toJson(
+                            new UserCredentials(ctx.getString("email"), InputConstants.Signup_Password)));
+                })
+                .think(Duration.ofSeconds(1), Duration.ofSeconds(2))
+                .step("POST /login", ctx -> ApiUtils.postRequest("/login", Payloads.toJson(
+                        new UserCredentials(ctx.getString("email"), InputConstants.Signup_Password))))
+                // Journey value: it shadows the shared user's session token until the journey ends
+                .extract((ctx, response) -> ctx.put("token", JsonResponse.of(response).getString("access_token")));
+        return crud(journey);
+    }
+
+    // Logs in as the shared test user unless the session already holds a recent token
+    private static Journey login(Journey journey) {
+        byte[] credentials = Payloads.toJson(new UserCredentials(InputConstants.USERNAME, InputConstants.PASSWORD));
+        return journey
+                .step("POST /login", ctx -> ApiUtils.postRequest("/login", credentials))
+                .when(ctx -> !ctx.isFresh("token", TOKEN_REUSE))
+                .extract((ctx, response) -> ctx.putSession("token", JsonResponse.of(response).getString("access_token")));
+    }
+
+    private static Journey crud(Journey journey) {
+        return journey
+                .think(Duration.ofSeconds(1), Duration.ofSeconds(3))
+                .step("POST /books", ctx -> {
+                    Book book = RandomDataGenerator.generateRandomBook();
+                    return ApiUtils.postRequest("/books/", Payloads.toJson(book), ctx.getString("token"));
+                })
+                .extract((ctx, response) -> ctx.put("bookId", JsonResponse.of(response).getInt("id")))
+                .think(Duration.ofSeconds(1), Duration.ofSeconds(2))
+                .step("GET /books/{id}", ctx -> ApiUtils.getRequest("/books/" + ctx.getInt("bookId"), ctx.getString("token")))
+                .think(Duration.ofSeconds(2), Duration.ofSeconds(4))
+                .step("PUT /books/{id}", ctx -> {
+                    // Same ID as created, so no fresh ID is drawn for it
+                    Book book = new Book(ctx.getInt("bookId"), RandomDataGenerator.generateRandomName(),
+                            RandomDataGenerator.generateRandomAuthor(), RandomDataGenerator.generateRandomPublishedYear(),
+                            RandomDataGenerator.generateRandomSummary());
+                    return ApiUtils.putRequest("/books/" + ctx.getInt("bookId"), Payloads.toJson(book), ctx.getString("token"));
+                })
+                .cleanup("DELETE /books/{id}", ctx -> ApiUtils.deleteRequest("/books/" + ctx.getInt("bookId"), ctx.getString("token")));
+    }
+}
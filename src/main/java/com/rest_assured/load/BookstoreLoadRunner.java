@@ -0,0 +1,105 @@
+package com.rest_assured.load;
+
+import com.project.base.BaseClass;
+import com.rest_assured.common.ApiUtils;
+import com.rest_assured.common.BookFixtures;
+import com.rest_assured.common.ConfigManager;
+import com.rest_assured.common.PayloadTemplate;
+import com.rest_assured.common.Payloads;
+import com.rest_assured.common.RandomDataGenerator;
+import com.rest_assured.common.RateLimiter;
+import com.rest_assured.common.TokenManager;
+import com.rest_assured.common.TokenPool;
+import com.rest_assured.constants.InputConstants;
+import com.rest_assured.model.UserCredentials;
+import com.rest_assured.perf.LatencyRecorder;
+import com.rest_assured.perf.PerfRegression;
+import com.rest_assured.perf.PerfRun;
+import io.restassured.response.Response;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Command-line entry point that drives the bookstore endpoints with LoadGenerator.
+ *
+ *   mvn -q compile exec:java -Dexec.mainClass=com.rest_assured.load.BookstoreLoadRunner \
+ *       -Dload.profile=ramp -Dload.startRps=5 -Dload.endRps=100 -Dload.durationSec=120 \
+ *       -Dload.targets=books:8,bookById:1,health:1
+ *
+ * Targets: health, signup, login, books, bookById. Each may carry a ":weight" suffix.
+ * With -Dload.users=N the /books calls rotate over N freshly provisioned users
+ * (TokenPool) instead of the single default account.
+ * Exits with 1 when any request failed or the run regressed against its
+ * performance history.
+ */
+public class BookstoreLoadRunner {
+
+    private static final ConfigManager CONFIG = ConfigManager.get();
+
+    public static void main(String[] args) {
+        new BaseClass().setup();
+
+        int users = CONFIG.getInt("load.users", 0);
+        Supplier<String> tokens = users > 0 ? TokenPool.provision(users)::nextToken : TokenManager::getToken;
+
+        LoadGenerator generator = new LoadGenerator(profileFromProperties());
+        for (String entry : CONFIG.getString("load.targets", "books").split(",")) {
+            String[] parts = entry.trim().split(":");
+            int weight = parts.length > 1 ? Integer.parseInt(parts[1]) : 1;
+            generator.addTarget(parts[0], weight, request(parts[0], tokens));
+        }
+
+        LoadResult result = generator.run();
+        result.print();
+        System.out.println("====== Service Latency ======");
+        System.out.print(LatencyRecorder.report());
+        System.out.print(RateLimiter.report());
+        PerfRegression regression = PerfRun.finish("load-" + CONFIG.getString("load.profile", "constant").toLowerCase(),
+                result.toPerfSamples(System.currentTimeMillis()));
+        BookFixtures.cleanup();
+        System.exit(result.totalFailures() > 0 || regression != null && regression.hasRegressions() ? 1 : 0);
+    }
+
+    static LoadProfile profileFromProperties() {
+        Duration duration = CONFIG.getSeconds("load.durationSec", 60L);
+        String profile = CONFIG.getString("load.profile", "constant").toLowerCase();
+
+        switch (profile) {
+            case "ramp":
+                return LoadProfile.ramp(CONFIG.getDouble("load.startRps", 1), CONFIG.getDouble("load.endRps", 50), duration);
+            case "step":
+                return LoadProfile.step(CONFIG.getDouble("load.startRps", 10), CONFIG.getDouble("load.stepRps", 10),
+                        CONFIG.getSeconds("load.stepSec", 30L), CONFIG.getInt("load.steps", 5));
+            case "constant":
+                return LoadProfile.constant(CONFIG.getDouble("load.rps", 10), duration);
+            default:
+                throw new IllegalArgumentException("Unknown load.profile: " + profile);
+        }
+    }
+
+    static Supplier<Response> request(String target, Supplier<String> tokens) {
+        switch (target) {
+            case "health":
+                return () -> ApiUtils.getRequest("/health");
+            case "signup":
+                // Only the email changes between requests
+                PayloadTemplate signup = PayloadTemplate.of(
+                        new UserCredentials(null, InputConstants.Signup_Password), "email");
+                return () -> ApiUtils.postRequest("/signup", signup.render(
+                        RandomDataGenerator.generateUniqueEmail(InputConstants.SignUp_Name)));
+            case "login":
+                byte[] login = Payloads.toJson(new UserCredentials(InputConstants.USERNAME, InputConstants.PASSWORD));
+                return () -> ApiUtils.postRequest("/login", login);
+            case "books":
+                return () -> ApiUtils.getRequest("/books", tokens.get());
+            case "bookById":
+                // Only lease (and so seed the fixture pool) when no book was configured
+                String bookId = CONFIG.getString("load.bookId", null);
+                String path = "/books/" + (bookId != null ? Integer.parseInt(bookId.trim()) : BookFixtures.lease());
+                return () -> ApiUtils.getRequest(path, tokens.get());
+            default:
+                throw new IllegalArgumentException("Unknown load target: " + target);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.rest_assured.load;
+
+import io.restassured.response.Response;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A user journey: steps run in order by one virtual user, with data handed
+ * between them through its JourneyContext and think times in between.
+ *
+ *   Journey edit = Journey.named("edit")
+ *           .step("POST /books", ctx -> ApiUtils.postRequest("/books/", body(ctx), ctx.getString("token")))
+ *           .extract((ctx, response) -> ctx.put("bookId", JsonResponse.of(response).getInt("id")))
+ *           .think(Duration.ofSeconds(1), Duration.ofSeconds(3))
+ *           .step("GET /books/{id}", ctx -> ApiUtils.getRequest("/books/" + ctx.getInt("bookId"), ctx.getString("token")))
+ *           .cleanup("DELETE /books/{id}", ctx -> ApiUtils.deleteRequest("/books/" + ctx.getInt("bookId"), ctx.getString("token")));
+ *
+ * A step fails when it answers anything other than its expected status (2xx by
+ * default) or throws; the rest of the journey is skipped, except cleanup steps,
+ * which always run. Step modifiers (extract, expect, when) apply to the step
+ * added last.
+ */
+public class Journey {
+
+    private final String name;
+    private final List<Step> steps = new ArrayList<>();
+
+    private Journey(String name) {
+        this.name = name;
+    }
+
+    public static Journey named(String name) {
+        return new Journey(name);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Journey step(String name, Function<JourneyContext, Response> request) {
+        steps.add(new Step(name, request, false));
+        return this;
+    }
+
+    // Runs even after an earlier step failed; skipped when a value it reads was never stored
+    public Journey cleanup(String name, Function<JourneyContext, Response> request) {
+        steps.add(new Step(name, request, true));
+        return this;
+    }
+
+    // Pause of a random length between min and max before the next step
+    public Journey think(Duration min, Duration max) {
+        steps.add(new Step(min, max));
+        return this;
+    }
+
+    // Stores what later steps need from the last step's response
+    public Journey extract(BiConsumer<JourneyContext, Response> extractor) {
+        lastStep("extract").extractors.add(extractor);
+        return this;
+    }
+
+    // Status the last step must answer; without this any 2xx passes
+    public Journey expect(int status) {
+        lastStep("expect").expectedStatus = status;
+        return this;
+    }
+
+    // Runs the last step only when the condition holds, e.g. no fresh token yet
+    public Journey when(Predicate<JourneyContext> condition) {
+        lastStep("when").condition = condition;
+        return this;
+    }
+
+    List<Step> getSteps() {
+        return Collections.unmodifiableList(steps);
+    }
+
+    private Step lastStep(String modifier) {
+        for (int i = steps.size() - 1; i >= 0; i--) {
+            if (steps.get(i).request != null) {
+                return steps.get(i);
+            }
+        }
+        throw new IllegalStateException(modifier + "() needs a step before it in journey " + name);
+    }
+
+    static class Step {
+        final String name;
+        final Function<JourneyContext, Response> request;
+        final boolean cleanup;
+        final List<BiConsumer<JourneyContext, Response>> extractors = new ArrayList<>();
+        final Duration thinkMin;
+        final Duration thinkMax;
+        int expectedStatus;
+        Predicate<JourneyContext> condition;
+
+        Step(String name, Function<JourneyContext, Response> request, boolean cleanup) {
+            this.name = name;
+            this.request = request;
+            this.cleanup = cleanup;
+            this.thinkMin = null;
+            this.thinkMax = null;
+        }
+
+        Step(Duration thinkMin, Duration thinkMax) {
+            this.name = "think";
+            this.request = null;
+            this.cleanup = false;
+            this.thinkMin = thinkMin;
+            this.thinkMax = thinkMax;
+        }
+
+        boolean isThink() {
+            return request == null;
+        }
+
+        boolean passes(Response response) {
+            return expectedStatus == 0 ? response.getStatusCode() / 100 == 2 : response.getStatusCode() == expectedStatus;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.rest_assured.load;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Data one virtual user's steps hand to later steps. put() values (the id of
+ * the book just created) last until the journey ends; putSession() values (a
+ * token) stay with the user across journeys. Steps of one user run one at a
+ * time, so it needs no locking.
+ */
+public class JourneyContext {
+
+    private final int user;
+    private final Map<String, Object> journey = new HashMap<>();
+    private final Map<String, Object> session = new HashMap<>();
+    private final Map<String, Long> storedAt = new HashMap<>();
+    private long journeys;
+
+    JourneyContext(int user) {
+        this.user = user;
+    }
+
+    // 0-based index of the virtual user
+    public int getUser() {
+        return user;
+    }
+
+    // Journeys this user has started so far, including the current one
+    public long getJourneys() {
+        return journeys;
+    }
+
+    void startJourney() {
+        journeys++;
+    }
+
+    void endJourney() {
+        journey.clear();
+    }
+
+    public JourneyContext put(String key, Object value) {
+        journey.put(key, value);
+        return this;
+    }
+
+    public JourneyContext putSession(String key, Object value) {
+        session.put(key, value);
+        storedAt.put(key, System.nanoTime());
+        return this;
+    }
+
+    // Journey value, else session value, else null
+    public Object get(String key) {
+        Object value = journey.get(key);
+        return value != null ? value : session.get(key);
+    }
+
+    /**
+     * @throws MissingValueException if no earlier step stored the key
+     */
+    public String getString(String key) {
+        return String.valueOf(require(key));
+    }
+
+    /**
+     * @throws MissingValueException if no earlier step stored the key
+     */
+    public int getInt(String key) {
+        Object value = require(key);
+        return value instanceof Number ? ((Number) value).intValue() : Integer.parseInt(value.toString());
+    }
+
+    public boolean has(String key) {
+        return get(key) != null;
+    }
+
+    // Session value stored less than maxAge ago, e.g. a token still worth reusing
+    public boolean isFresh(String key, Duration maxAge) {
+        Long at = storedAt.get(key);
+        return at != null && System.nanoTime() - at < maxAge.toNanos();
+    }
+
+    public void remove(String key) {
+        journey.remove(key);
+        session.remove(key);
+        storedAt.remove(key);
+    }
+
+    public RandomGenerator random() {
+        return ThreadLocalRandom.current();
+    }
+
+    private Object require(String key) {
+        Object value = get(key);
+        if (value == null) {
+            throw new MissingValueException("No value for '" + key + "' in the journey context of user " + user);
+        }
+        return value;
+    }
+
+    // A step read a value no earlier step stored; cleanup steps are skipped on it
+    public static class MissingValueException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        MissingValueException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.rest_assured.load;
+
+import com.rest_assured.common.AsyncApiUtils;
+import com.rest_assured.common.ConfigManager;
+import io.restassured.response.Response;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+
+/**
+ * Closed-model engine for user journeys: `users` virtual users, each on its
+ * own virtual thread, repeatedly pick a journey by weight and run it, until
+ * the duration is up. Journeys already started when time runs out finish, so
+ * their cleanup steps still run.
+ *
+ *   LoadResult result = new JourneyEngine(200, Duration.ofMinutes(10))
+ *           .rampUp(Duration.ofMinutes(1))
+ *           .add(browse, 80)
+ *           .add(edit, 15)
+ *           .add(signup, 5)
+ *           .run();
+ *
+ * Every step is recorded in the LoadResult as "<journey>: <step>" and every
+ * journey as "journey <name>" (wall time including think time). Requests go
+ * through AsyncApiUtils, so its in-flight limit keeps virtual users from
+ * piling onto the connection pool. Think times are multiplied by
+ * journey.thinkScale (0 removes them, e.g. for a stress run).
+ */
+public class JourneyEngine {
+
+    private static final double THINK_SCALE = ConfigManager.get().getDouble("journey.thinkScale", 1.0);
+
+    private final int users;
+    private final Duration duration;
+    private final List<Journey> journeys = new ArrayList<>();
+    private final List<Integer> weights = new ArrayList<>();
+    private int totalWeight;
+    private Duration rampUp = Duration.ZERO;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public JourneyEngine(int users, Duration duration) {
+        if (users <= 0) {
+            throw new IllegalArgumentException("At least one virtual user is needed");
+        }
+        this.users = users;
+        this.duration = duration;
+    }
+
+    // Users start evenly spread over this period instead of all at once
+    public JourneyEngine rampUp(Duration rampUp) {
+        this.rampUp = rampUp;
+        return this;
+    }
+
+    public JourneyEngine add(Journey journey, int weight) {
+        if (weight <= 0) {
+            throw new IllegalArgumentException("Weight must be positive for journey " + journey.getName());
+        }
+        journeys.add(journey);
+        weights.add(weight);
+        totalWeight += weight;
+        return this;
+    }
+
+    public long completedJourneys() {
+        return completed.sum();
+    }
+
+    public long failedJourneys() {
+        return failed.sum();
+    }
+
+    public LoadResult run() {
+        if (journeys.isEmpty()) {
+            throw new IllegalStateException("No journeys configured");
+        }
+        System.out.println("Starting " + users + " virtual user(s) for " + duration.toSeconds() + "s, ramp-up "
+                + rampUp.toSeconds() + "s, journeys " + mix());
+
+        LoadResult result = new LoadResult();
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        List<Thread> threads = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            int user = i;
+            long startAt = start + rampUp.toNanos() * user / users;
+            threads.add(Thread.ofVirtual().name("journey-user-" + user).start(() -> {
+                parkUntil(startAt);
+                JourneyContext context = new JourneyContext(user);
+                while (System.nanoTime() < deadline) {
+                    runJourney(pick(), context, result);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        result.setElapsedNanos(System.nanoTime() - start);
+        System.out.printf("Journeys: %d completed, %d failed%n", completed.sum(), failed.sum());
+        return result;
+    }
+
+    private void runJourney(Journey journey, JourneyContext context, LoadResult result) {
+        context.startJourney();
+        long journeyStart = System.nanoTime();
+        Response last = null;
+        Throwable failure = null;
+
+        for (Journey.Step step : journey.getSteps()) {
+            if (step.isThink()) {
+                if (failure == null) {
+                    think(step);
+                }
+                continue;
+            }
+            if (failure != null && !step.cleanup || step.condition != null && !step.condition.test(context)) {
+                continue;
+            }
+            long stepStart = System.nanoTime();
+            Response response = null;
+            Throwable error = null;
+            boolean unexpectedStatus = false;
+            try {
+                response = call(step, context);
+                if (step.passes(response)) {
+                    for (BiConsumer<JourneyContext, Response> extractor : step.extractors) {
+                        extractor.accept(context, response);
+                    }
+                } else {
+                    unexpectedStatus = true;
+                    error = new RuntimeException(step.name + " answered " + response.getStatusCode());
+                }
+            } catch (JourneyContext.MissingValueException e) {
+                if (step.cleanup) {
+                    // Nothing to clean up: the step that stores the value never got that far
+                    continue;
+                }
+                error = e;
+            } catch (RuntimeException e) {
+                error = e;
+            }
+            // An unexpected status is counted from the response (4xx/5xx); anything else as a failure
+            result.record(journey.getName() + ": " + step.name, stepStart, stepStart, System.nanoTime(),
+                    response, unexpectedStatus ? null : error);
+            if (error != null && failure == null) {
+                failure = error;
+            }
+            if (response != null) {
+                last = response;
+            }
+        }
+
+        context.endJourney();
+        if (failure == null && last == null) {
+            failure = new IllegalStateException("Journey " + journey.getName() + " ran no steps");
+        }
+        if (failure == null) {
+            completed.increment();
+        } else {
+            failed.increment();
+        }
+        result.record("journey " + journey.getName(), journeyStart, journeyStart, System.nanoTime(),
+                failure == null ? last : null, failure);
+    }
+
+    private static Response call(Journey.Step step, JourneyContext context) {
+        try {
+            return AsyncApiUtils.submit(() -> step.request.apply(context)).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+    }
+
+    private static void think(Journey.Step step) {
+        long min = step.thinkMin.toNanos();
+        long max = Math.max(min, step.thinkMax.toNanos());
+        long pause = (long) ((min + (max > min ? ThreadLocalRandom.current().nextLong(max - min) : 0)) * THINK_SCALE);
+        if (pause > 0) {
+            parkUntil(System.nanoTime() + pause);
+        }
+    }
+
+    private static void parkUntil(long nanoTime) {
+        for (long left = nanoTime - System.nanoTime(); left > 0; left = nanoTime - System.nanoTime()) {
+            LockSupport.parkNanos(left);
+        }
+    }
+
+    private Journey pick() {
+        if (journeys.size() == 1) {
+            return journeys.get(0);
+        }
+        int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (int i = 0; i < journeys.size(); i++) {
+            roll -= weights.get(i);
+            if (roll < 0) {
+                return journeys.get(i);
+            }
+        }
+        return journeys.get(journeys.size() - 1);
+    }
+
+    private String mix() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < journeys.size(); i++) {
+            sb.append(i == 0 ? "" : ", ").append(journeys.get(i).getName()).append(' ')
+                    .append(String.format("%.0f%%", 100.0 * weights.get(i) / totalWeight));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,132 @@
+package com.rest_assured.load;
+
+import com.rest_assured.common.AsyncApiUtils;
+import com.rest_assured.common.ConfigManager;
+import io.restassured.response.Response;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Open-model load generator: requests are released on a fixed schedule derived
+ * from the LoadProfile, independent of how quickly earlier requests complete.
+ *
+ * Each request remembers the time it was scheduled for and its response time
+ * is measured from there. If the server (or the in-flight limit) holds things
+ * up, the wait shows up in the numbers instead of quietly lowering the offered
+ * load (coordinated omission).
+ *
+ * Usage:
+ *   LoadResult result = new LoadGenerator(LoadProfile.constant(50, Duration.ofMinutes(1)))
+ *           .addTarget("GET /books", 8, () -> ApiUtils.getRequest("/books", token))
+ *           .addTarget("GET /health", 2, () -> ApiUtils.getRequest("/health"))
+ *           .run();
+ */
+public class LoadGenerator {
+
+    // Rate used while a profile reports zero, so the scheduler keeps checking without spinning
+    private static final double IDLE_RATE = 100.0;
+    private static final Duration DRAIN_TIMEOUT = ConfigManager.get().getSeconds("load.drainTimeoutSec", 30L);
+
+    private final LoadProfile profile;
+    private final List<Target> targets = new ArrayList<>();
+    private int totalWeight;
+
+    public LoadGenerator(LoadProfile profile) {
+        this.profile = profile;
+    }
+
+    public LoadGenerator addTarget(String name, int weight, Supplier<Response> request) {
+        if (weight <= 0) {
+            throw new IllegalArgumentException("Weight must be positive for target " + name);
+        }
+        targets.add(new Target(name, weight, request));
+        totalWeight += weight;
+        return this;
+    }
+
+    public LoadResult run() {
+        if (targets.isEmpty()) {
+            throw new IllegalStateException("No load targets configured");
+        }
+        System.out.println("Starting load: " + profile);
+
+        LoadResult result = new LoadResult();
+        AtomicLong outstanding = new AtomicLong();
+        long durationNanos = profile.getDuration().toNanos();
+        long start = System.nanoTime();
+        long intended = start;
+
+        while (intended - start < durationNanos) {
+            long now = System.nanoTime();
+            if (intended > now) {
+                LockSupport.parkNanos(intended - now);
+            }
+
+            double rate = profile.rateAt(Duration.ofNanos(intended - start));
+            if (rate > 0) {
+                fire(pickTarget(), intended, result, outstanding);
+            }
+            intended += (long) (TimeUnit.SECONDS.toNanos(1) / (rate > 0 ? rate : IDLE_RATE));
+        }
+
+        awaitOutstanding(outstanding);
+        result.setElapsedNanos(System.nanoTime() - start);
+        return result;
+    }
+
+    private void fire(Target target, long intended, LoadResult result, AtomicLong outstanding) {
+        outstanding.incrementAndGet();
+        long[] dispatched = new long[1];
+        AsyncApiUtils.submit(() -> {
+            dispatched[0] = System.nanoTime();
+            return target.request.get();
+        }).whenComplete((response, error) -> {
+            result.record(target.name, intended, dispatched[0] == 0 ? intended : dispatched[0],
+                    System.nanoTime(), response, error);
+            outstanding.decrementAndGet();
+        });
+    }
+
+    private Target pickTarget() {
+        if (targets.size() == 1) {
+            return targets.get(0);
+        }
+        int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Target target : targets) {
+            roll -= target.weight;
+            if (roll < 0) {
+                return target;
+            }
+        }
+        return targets.get(targets.size() - 1);
+    }
+
+    private void awaitOutstanding(AtomicLong outstanding) {
+        long deadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (outstanding.get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        if (outstanding.get() > 0) {
+            System.out.println("[WARNING] " + outstanding.get() + " requests still in flight after " + DRAIN_TIMEOUT);
+        }
+    }
+
+    private static class Target {
+        private final String name;
+        private final int weight;
+        private final Supplier<Response> request;
+
+        Target(String name, int weight, Supplier<Response> request) {
+            this.name = name;
+            this.weight = weight;
+            this.request = request;
+        }
+    }
+}
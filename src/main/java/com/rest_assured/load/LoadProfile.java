@@ -0,0 +1,71 @@
+package com.rest_assured.load;
+
+import java.time.Duration;
+
+/**
+ * Target arrival rate (requests per second) as a function of elapsed time.
+ * The generator asks for the rate at each scheduled send, so a profile never
+ * depends on how fast the server answers.
+ */
+public abstract class LoadProfile {
+
+    private final Duration duration;
+
+    protected LoadProfile(Duration duration) {
+        this.duration = duration;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    // Requests per second that should be offered at the given point of the run
+    public abstract double rateAt(Duration elapsed);
+
+    // Same rate for the whole run
+    public static LoadProfile constant(double rps, Duration duration) {
+        return new LoadProfile(duration) {
+            @Override
+            public double rateAt(Duration elapsed) {
+                return rps;
+            }
+
+            @Override
+            public String toString() {
+                return "constant " + rps + " rps for " + duration;
+            }
+        };
+    }
+
+    // Linear ramp from startRps to endRps over the whole run
+    public static LoadProfile ramp(double startRps, double endRps, Duration duration) {
+        return new LoadProfile(duration) {
+            @Override
+            public double rateAt(Duration elapsed) {
+                double progress = Math.min(1.0, (double) elapsed.toNanos() / duration.toNanos());
+                return startRps + (endRps - startRps) * progress;
+            }
+
+            @Override
+            public String toString() {
+                return "ramp " + startRps + " -> " + endRps + " rps over " + duration;
+            }
+        };
+    }
+
+    // startRps, then +stepRps every stepDuration, for the given number of steps
+    public static LoadProfile step(double startRps, double stepRps, Duration stepDuration, int steps) {
+        return new LoadProfile(stepDuration.multipliedBy(steps)) {
+            @Override
+            public double rateAt(Duration elapsed) {
+                long step = Math.min(steps - 1, elapsed.toNanos() / stepDuration.toNanos());
+                return startRps + stepRps * step;
+            }
+
+            @Override
+            public String toString() {
+                return "step " + startRps + " rps +" + stepRps + " every " + stepDuration + " x" + steps;
+            }
+        };
+    }
+}
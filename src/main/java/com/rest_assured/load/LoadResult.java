@@ -0,0 +1,128 @@
+package com.rest_assured.load;
+
+import com.rest_assured.perf.PerfSample;
+import io.restassured.response.Response;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-target counters for one load run. Response times are measured from the
+ * moment a request was supposed to be sent, so time spent queued behind a
+ * slow server is counted instead of silently dropped.
+ */
+public class LoadResult {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    private final Map<String, TargetStats> stats = new ConcurrentHashMap<>();
+    private volatile long elapsedNanos;
+
+    void record(String target, long intendedNanos, long dispatchedNanos, long completedNanos,
+                Response response, Throwable error) {
+        TargetStats s = stats.computeIfAbsent(target, k -> new TargetStats());
+        s.count.increment();
+        if (error != null) {
+            s.failures.increment();
+        } else if (response.getStatusCode() >= 500) {
+            s.serverErrors.increment();
+        } else if (response.getStatusCode() >= 400) {
+            s.clientErrors.increment();
+        }
+        long responseTime = completedNanos - intendedNanos;
+        s.totalResponseNanos.add(responseTime);
+        s.responseTimes.recordValue(Math.min(responseTime, HIGHEST_TRACKABLE_NANOS));
+        s.totalScheduleLagNanos.add(dispatchedNanos - intendedNanos);
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long totalRequests() {
+        return stats.values().stream().mapToLong(s -> s.count.sum()).sum();
+    }
+
+    public long totalFailures() {
+        return stats.values().stream().mapToLong(s -> s.failures.sum() + s.serverErrors.sum()).sum();
+    }
+
+    public double achievedRps() {
+        return elapsedNanos == 0 ? 0 : totalRequests() / (elapsedNanos / 1e9);
+    }
+
+    public Map<String, TargetStats> getStats() {
+        return stats;
+    }
+
+    // One PerfHistory sample per target ("load <target>"), with its achieved throughput
+    public Map<String, PerfSample> toPerfSamples(long timestamp) {
+        Map<String, PerfSample> samples = new TreeMap<>();
+        double seconds = elapsedNanos / 1e9;
+        stats.forEach((name, s) -> samples.put("load " + name,
+                PerfSample.of(timestamp, s.responseTimes, seconds == 0 ? 0 : s.count.sum() / seconds)));
+        return samples;
+    }
+
+    public void print() {
+        System.out.println("====== Load Result ======");
+        System.out.printf("Requests: %d, achieved %.1f rps over %.1fs%n",
+                totalRequests(), achievedRps(), elapsedNanos / 1e9);
+        System.out.printf("%-32s %8s %6s %6s %6s %10s %10s %10s %10s %10s%n",
+                "target", "count", "4xx", "5xx", "fail", "mean(ms)", "p50(ms)", "p99(ms)", "max(ms)", "lag(ms)");
+        new TreeMap<>(stats).forEach((name, s) -> System.out.printf("%-32s %8d %6d %6d %6d %10.2f %10.2f %10.2f %10.2f %10.2f%n",
+                name, s.count.sum(), s.clientErrors.sum(), s.serverErrors.sum(), s.failures.sum(),
+                s.meanResponseMillis(), s.percentileMillis(50), s.percentileMillis(99),
+                toMillis(s.responseTimes.getMaxValue()), s.meanScheduleLagMillis()));
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public static class TargetStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder clientErrors = new LongAdder();
+        private final LongAdder serverErrors = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder totalResponseNanos = new LongAdder();
+        private final LongAdder totalScheduleLagNanos = new LongAdder();
+        private final Histogram responseTimes = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getClientErrors() {
+            return clientErrors.sum();
+        }
+
+        public long getServerErrors() {
+            return serverErrors.sum();
+        }
+
+        public long getFailures() {
+            return failures.sum();
+        }
+
+        public double meanResponseMillis() {
+            long n = count.sum();
+            return n == 0 ? 0 : toMillis(totalResponseNanos.sum()) / n;
+        }
+
+        public double percentileMillis(double percentile) {
+            return toMillis(responseTimes.getValueAtPercentile(percentile));
+        }
+
+        // How late, on average, requests left the generator compared to the schedule
+        public double meanScheduleLagMillis() {
+            long n = count.sum();
+            return n == 0 ? 0 : toMillis(totalScheduleLagNanos.sum()) / n;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.rest_assured.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * A book as sent to and returned by /books. Null fields are left out of the
+ * request body, so a partial Book can be used for negative cases.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class Book {
+
+    private Integer id;
+    private String name;
+    private String author;
+    @JsonProperty("published_year")
+    private Integer publishedYear;
+    @JsonProperty("book_summary")
+    private String bookSummary;
+
+    public Book() {
+    }
+
+    public Book(Integer id, String name, String author, Integer publishedYear, String bookSummary) {
+        this.id = id;
+        this.name = name;
+        this.author = author;
+        this.publishedYear = publishedYear;
+        this.bookSummary = bookSummary;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getAuthor() {
+        return author;
+    }
+
+    public void setAuthor(String author) {
+        this.author = author;
+    }
+
+    public Integer getPublishedYear() {
+        return publishedYear;
+    }
+
+    public void setPublishedYear(Integer publishedYear) {
+        this.publishedYear = publishedYear;
+    }
+
+    public String getBookSummary() {
+        return bookSummary;
+    }
+
+    public void setBookSummary(String bookSummary) {
+        this.bookSummary = bookSummary;
+    }
+}
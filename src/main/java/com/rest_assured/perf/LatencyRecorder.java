@@ -0,0 +1,179 @@
+package com.rest_assured.perf;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Records the latency of every ApiUtils call into one HdrHistogram per
+ * "METHOD /endpoint/template" (numeric path segments become {id}).
+ *
+ * Recording is wait-free (HdrHistogram Recorder) and uses fixed memory per
+ * endpoint, so measuring does not disturb the calls being measured.
+ *
+ * A thread can also open a Capture (SlaListener does so per test); calls made
+ * while it is open are recorded into it as well as into the suite totals.
+ */
+public class LatencyRecorder {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(5);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+
+    private static final Map<String, Recorder> RECORDERS = new ConcurrentHashMap<>();
+    private static final Map<String, Histogram> TOTALS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Capture> CAPTURE = new ThreadLocal<>();
+
+    private static final OrderedFilter FILTER = new OrderedFilter() {
+        @Override
+        public Response filter(FilterableRequestSpecification requestSpec,
+                               FilterableResponseSpecification responseSpec, FilterContext ctx) {
+            long start = System.nanoTime();
+            try {
+                return ctx.next(requestSpec, responseSpec);
+            } finally {
+                record(requestSpec.getMethod(), requestSpec.getURI(), System.nanoTime() - start);
+            }
+        }
+
+        // Outermost filter after CircuitBreaker and RateLimiter, so the timing covers every other filter and
+        // reading a buffered body. A streamed body is read after this returns, so only its headers are timed
+        @Override
+        public int getOrder() {
+            return OrderedFilter.HIGHEST_PRECEDENCE + 2;
+        }
+    };
+
+    public static OrderedFilter filter() {
+        return FILTER;
+    }
+
+    public static void record(String method, String uri, long nanos) {
+        String key = key(method, uri);
+        Recorder recorder = RECORDERS.get(key);
+        if (recorder == null) {
+            recorder = RECORDERS.computeIfAbsent(key, k -> new Recorder(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS));
+        }
+        recorder.recordValue(Math.min(nanos, HIGHEST_TRACKABLE_NANOS));
+
+        Capture capture = CAPTURE.get();
+        if (capture != null) {
+            capture.record(key, Math.min(nanos, HIGHEST_TRACKABLE_NANOS));
+        }
+    }
+
+    // Opens a new capture on the calling thread, replacing any open one
+    public static Capture startCapture() {
+        Capture capture = new Capture();
+        CAPTURE.set(capture);
+        return capture;
+    }
+
+    // Closes the calling thread's capture and returns it, or null if none was open
+    public static Capture endCapture() {
+        Capture capture = CAPTURE.get();
+        CAPTURE.remove();
+        return capture;
+    }
+
+    public static Capture currentCapture() {
+        return CAPTURE.get();
+    }
+
+    /**
+     * Makes `capture` (may be null) the calling thread's capture and returns the
+     * previous one, so work handed to another thread can be counted for the
+     * test that started it.
+     */
+    public static Capture swapCapture(Capture capture) {
+        Capture previous = CAPTURE.get();
+        if (capture == null) {
+            CAPTURE.remove();
+        } else {
+            CAPTURE.set(capture);
+        }
+        return previous;
+    }
+
+    // "GET http://host:8000/books/42?x=1" -> "GET /books/{id}"
+    public static String key(String method, String uri) {
+        int schemeEnd = uri.indexOf("://");
+        int pathStart = schemeEnd < 0 ? 0 : uri.indexOf('/', schemeEnd + 3);
+        int queryStart = uri.indexOf('?');
+        String path = pathStart < 0 ? "/" : uri.substring(pathStart, queryStart < 0 ? uri.length() : queryStart);
+        return method + " " + NUMERIC_SEGMENT.matcher(path).replaceAll("/{id}");
+    }
+
+    /**
+     * Moves everything recorded since the last call into the running totals and
+     * returns a copy of them, sorted by endpoint.
+     */
+    public static synchronized Map<String, Histogram> snapshot() {
+        RECORDERS.forEach((key, recorder) -> TOTALS
+                .computeIfAbsent(key, k -> new Histogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS))
+                .add(recorder.getIntervalHistogram()));
+
+        Map<String, Histogram> copy = new TreeMap<>();
+        TOTALS.forEach((key, histogram) -> copy.put(key, histogram.copy()));
+        return copy;
+    }
+
+    public static synchronized void reset() {
+        RECORDERS.values().forEach(Recorder::reset);
+        TOTALS.clear();
+    }
+
+    public static String report() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-28s %8s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)"));
+        snapshot().forEach((key, h) -> sb.append(String.format("%-28s %8d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                key, h.getTotalCount(),
+                toMillis(h.getValueAtPercentile(50)), toMillis(h.getValueAtPercentile(90)),
+                toMillis(h.getValueAtPercentile(99)), toMillis(h.getValueAtPercentile(99.9)),
+                toMillis(h.getMaxValue()))));
+        return sb.toString();
+    }
+
+    public static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * Latencies of the calls made while a capture was open, per endpoint.
+     * Safe to record into from several threads at once.
+     */
+    public static final class Capture {
+        private final Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+
+        void record(String key, long nanos) {
+            recorders.computeIfAbsent(key, k -> new Recorder(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS))
+                    .recordValue(nanos);
+        }
+
+        /**
+         * Everything captured so far for one endpoint ("GET /books/{id}"), or for
+         * every endpoint when it is null or empty. Each recorded call is
+         * returned once: a second call only sees what was recorded since.
+         */
+        public synchronized Histogram histogram(String endpoint) {
+            Histogram total = new Histogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+            recorders.forEach((key, recorder) -> {
+                if (endpoint == null || endpoint.isEmpty() || endpoint.equals(key)) {
+                    total.add(recorder.getIntervalHistogram());
+                }
+            });
+            return total;
+        }
+    }
+}
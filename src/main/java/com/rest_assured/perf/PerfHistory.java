@@ -0,0 +1,146 @@
+package com.rest_assured.perf;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Append-only history of PerfSamples, one file per series in one directory.
+ * A file is a header followed by fixed-width rows, one per run:
+ *
+ *   int    magic "PERF"
+ *   short  series name length, then the name (UTF-8), e.g. "GET /books/{id}"
+ *   rows   long timestamp, long count, double p50, p90, p99, max, mean (ms), double throughput
+ *
+ * Every row is ROW_BYTES long, so the last N runs are read with one
+ * positioned read and a single column is a fixed stride. A row cut short by a
+ * crash is dropped on the next append.
+ */
+public class PerfHistory {
+
+    static final int ROW_BYTES = 64;
+    private static final int MAGIC = 0x50455246;
+    private static final String SUFFIX = ".perf";
+
+    private final Path dir;
+
+    public PerfHistory(Path dir) {
+        this.dir = dir;
+    }
+
+    public Path getDir() {
+        return dir;
+    }
+
+    public void append(String series, PerfSample sample) throws IOException {
+        Files.createDirectories(dir);
+        try (FileChannel channel = FileChannel.open(file(series),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            int header = channel.size() == 0 ? writeHeader(channel, series) : readHeader(channel, series);
+            long rows = (channel.size() - header) / ROW_BYTES;
+            long end = header + rows * ROW_BYTES;
+            channel.truncate(end);
+
+            ByteBuffer row = ByteBuffer.allocate(ROW_BYTES);
+            row.putLong(sample.getTimestamp())
+                    .putLong(sample.getCount())
+                    .putDouble(sample.getP50Ms())
+                    .putDouble(sample.getP90Ms())
+                    .putDouble(sample.getP99Ms())
+                    .putDouble(sample.getMaxMs())
+                    .putDouble(sample.getMeanMs())
+                    .putDouble(sample.getThroughput())
+                    .flip();
+            while (row.hasRemaining()) {
+                channel.write(row, end + row.position());
+            }
+        }
+    }
+
+    /**
+     * Last `runs` samples of the series, oldest first; empty if it has none.
+     */
+    public List<PerfSample> read(String series, int runs) throws IOException {
+        Path file = file(series);
+        if (!Files.exists(file)) {
+            return new ArrayList<>();
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            int header = readHeader(channel, series);
+            long rows = (channel.size() - header) / ROW_BYTES;
+            int count = (int) Math.min(rows, runs);
+            ByteBuffer buffer = ByteBuffer.allocate(count * ROW_BYTES);
+            long position = header + (rows - count) * ROW_BYTES;
+            while (buffer.hasRemaining() && channel.read(buffer, position + buffer.position()) >= 0) {
+                // keep reading until the buffer is full
+            }
+            buffer.flip();
+
+            List<PerfSample> samples = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                samples.add(new PerfSample(buffer.getLong(), buffer.getLong(), buffer.getDouble(), buffer.getDouble(),
+                        buffer.getDouble(), buffer.getDouble(), buffer.getDouble(), buffer.getDouble()));
+            }
+            return samples;
+        }
+    }
+
+    // Names of every series in the directory, sorted
+    public List<String> series() throws IOException {
+        TreeSet<String> names = new TreeSet<>();
+        if (Files.isDirectory(dir)) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*" + SUFFIX)) {
+                for (Path file : files) {
+                    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                        names.add(readName(channel, file));
+                    }
+                }
+            }
+        }
+        return new ArrayList<>(names);
+    }
+
+    // "GET /books/{id}" -> GET_books_id_-1a2b3c4d.perf; the hash keeps similar names apart
+    private Path file(String series) {
+        String safe = series.replaceAll("[^A-Za-z0-9._-]+", "_");
+        return dir.resolve(safe + "-" + Integer.toHexString(series.hashCode()) + SUFFIX);
+    }
+
+    private static int writeHeader(FileChannel channel, String series) throws IOException {
+        byte[] name = series.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES + Short.BYTES + name.length);
+        header.putInt(MAGIC).putShort((short) name.length).put(name).flip();
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+        return header.limit();
+    }
+
+    private int readHeader(FileChannel channel, String series) throws IOException {
+        String name = readName(channel, file(series));
+        if (!name.equals(series)) {
+            throw new RuntimeException("History file " + file(series) + " belongs to series " + name + ", not " + series);
+        }
+        return Integer.BYTES + Short.BYTES + name.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static String readName(FileChannel channel, Path file) throws IOException {
+        ByteBuffer fixed = ByteBuffer.allocate(Integer.BYTES + Short.BYTES);
+        channel.read(fixed, 0);
+        fixed.flip();
+        if (fixed.remaining() < fixed.capacity() || fixed.getInt() != MAGIC) {
+            throw new RuntimeException("Not a performance history file: " + file);
+        }
+        ByteBuffer name = ByteBuffer.allocate(fixed.getShort() & 0xFFFF);
+        channel.read(name, fixed.capacity());
+        return new String(name.array(), 0, name.position(), StandardCharsets.UTF_8);
+    }
+}
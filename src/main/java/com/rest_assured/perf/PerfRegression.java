@@ -0,0 +1,243 @@
+package com.rest_assured.perf;
+
+import com.rest_assured.common.ConfigManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Compares one run against a rolling baseline of the runs before it in a
+ * PerfHistory and reports, per series and metric, whether it got worse.
+ *
+ * The baseline of a metric is the median of the last perf.baselineRuns runs
+ * and its noise the scaled median absolute deviation (MAD) of the same runs,
+ * so one odd run in the window moves neither. A change is a regression only
+ * when it is all of:
+ *   - worse than the median by more than perf.regression.threshold (0.2 = 20%),
+ *   - more than perf.regression.sigmas noise widths away from it,
+ *   - for latencies, at least perf.regression.minDeltaMs in absolute terms.
+ * With fewer than perf.minBaselineRuns earlier runs nothing is judged yet.
+ *
+ * Standalone, against the newest run already in the history:
+ *   mvn -q compile exec:java -Dexec.mainClass=com.rest_assured.perf.PerfRegression -Dexec.args="perf-history/dev/suite"
+ */
+public class PerfRegression {
+
+    private static final ConfigManager CONFIG = ConfigManager.get();
+    private static final int BASELINE_RUNS = CONFIG.getInt("perf.baselineRuns", 10);
+    private static final int MIN_BASELINE_RUNS = CONFIG.getInt("perf.minBaselineRuns", 3);
+    private static final double THRESHOLD = CONFIG.getDouble("perf.regression.threshold", 0.2);
+    private static final double SIGMAS = CONFIG.getDouble("perf.regression.sigmas", 3.0);
+    private static final double MIN_DELTA_MS = CONFIG.getDouble("perf.regression.minDeltaMs", 1.0);
+    // p99 of fewer calls than this is just the slowest one or two; it is reported but not judged
+    private static final long MIN_COUNT_FOR_P99 = 20;
+    // MAD * 1.4826 estimates the standard deviation of normally distributed values
+    private static final double MAD_TO_SIGMA = 1.4826;
+
+    public enum Verdict { REGRESSION, IMPROVED, OK, NO_BASELINE }
+
+    private final List<Finding> findings = new ArrayList<>();
+
+    /**
+     * Judges `current` (series -> this run's sample) against the runs in
+     * `history` older than each sample. Nothing is written to the history.
+     */
+    public static PerfRegression compare(PerfHistory history, Map<String, PerfSample> current) throws IOException {
+        PerfRegression regression = new PerfRegression();
+        for (Map.Entry<String, PerfSample> entry : new TreeMap<>(current).entrySet()) {
+            PerfSample sample = entry.getValue();
+            List<PerfSample> baseline = new ArrayList<>();
+            // One extra row in case the current run has already been appended
+            for (PerfSample earlier : history.read(entry.getKey(), BASELINE_RUNS + 1)) {
+                if (earlier.getTimestamp() < sample.getTimestamp()) {
+                    baseline.add(earlier);
+                }
+            }
+            if (baseline.size() > BASELINE_RUNS) {
+                baseline = baseline.subList(baseline.size() - BASELINE_RUNS, baseline.size());
+            }
+            regression.judge(entry.getKey(), sample, baseline);
+        }
+        return regression;
+    }
+
+    private void judge(String series, PerfSample sample, List<PerfSample> baseline) {
+        latency(series, "p50", sample, baseline, PerfSample::getP50Ms, true);
+        latency(series, "p99", sample, baseline, PerfSample::getP99Ms, sample.getCount() >= MIN_COUNT_FOR_P99);
+        if (sample.getThroughput() > 0) {
+            add(series, "throughput", baseline, PerfSample::getThroughput, sample.getThroughput(), false, 0, true);
+        }
+    }
+
+    private void latency(String series, String metric, PerfSample sample, List<PerfSample> baseline,
+                         ToDoubleFunction<PerfSample> column, boolean judged) {
+        add(series, metric, baseline, column, column.applyAsDouble(sample), true, MIN_DELTA_MS, judged);
+    }
+
+    private void add(String series, String metric, List<PerfSample> baseline, ToDoubleFunction<PerfSample> column,
+                     double current, boolean higherIsWorse, double minDelta, boolean judged) {
+        if (baseline.size() < MIN_BASELINE_RUNS || !judged) {
+            double median = baseline.isEmpty() ? Double.NaN : median(values(baseline, column));
+            findings.add(new Finding(series, metric, median, current, baseline.size(),
+                    baseline.size() < MIN_BASELINE_RUNS ? Verdict.NO_BASELINE : Verdict.OK));
+            return;
+        }
+        double[] values = values(baseline, column);
+        double median = median(values);
+        double[] deviations = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            deviations[i] = Math.abs(values[i] - median);
+        }
+        double noise = MAD_TO_SIGMA * median(deviations);
+
+        // Positive when worse: slower latency, lower throughput
+        double worse = higherIsWorse ? current - median : median - current;
+        boolean significant = Math.abs(worse) > SIGMAS * noise
+                && Math.abs(worse) > THRESHOLD * median
+                && Math.abs(worse) >= minDelta;
+        Verdict verdict = !significant ? Verdict.OK : worse > 0 ? Verdict.REGRESSION : Verdict.IMPROVED;
+        findings.add(new Finding(series, metric, median, current, baseline.size(), verdict));
+    }
+
+    public List<Finding> getFindings() {
+        return Collections.unmodifiableList(findings);
+    }
+
+    public List<Finding> regressions() {
+        List<Finding> regressions = new ArrayList<>();
+        for (Finding finding : findings) {
+            if (finding.getVerdict() == Verdict.REGRESSION) {
+                regressions.add(finding);
+            }
+        }
+        return regressions;
+    }
+
+    public boolean hasRegressions() {
+        return !regressions().isEmpty();
+    }
+
+    // Diff table: baseline median vs this run per series and metric, regressions first
+    public String report() {
+        List<Finding> sorted = new ArrayList<>(findings);
+        sorted.sort((a, b) -> Integer.compare(a.getVerdict().ordinal(), b.getVerdict().ordinal()));
+
+        StringBuilder sb = new StringBuilder();
+        long regressions = regressions().size();
+        sb.append(regressions == 0 ? "No performance regressions" : regressions + " performance regression(s)")
+                .append(" (baseline: median of up to ").append(BASELINE_RUNS).append(" earlier runs)")
+                .append(System.lineSeparator());
+        sb.append(String.format("%-12s %-56s %-10s %12s %12s %9s %5s%n",
+                "verdict", "series", "metric", "baseline", "current", "change", "runs"));
+        for (Finding f : sorted) {
+            sb.append(String.format("%-12s %-56s %-10s %12s %12s %9s %5d%n",
+                    f.getVerdict(), f.getSeries(), f.getMetric(), format(f.getBaseline()), format(f.getCurrent()),
+                    Double.isNaN(f.getChange()) ? "-" : String.format("%+.1f%%", f.getChange() * 100),
+                    f.getBaselineRuns()));
+        }
+        return sb.toString();
+    }
+
+    private static double[] values(List<PerfSample> samples, ToDoubleFunction<PerfSample> column) {
+        double[] values = new double[samples.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = column.applyAsDouble(samples.get(i));
+        }
+        return values;
+    }
+
+    private static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+
+    private static String format(double value) {
+        return Double.isNaN(value) ? "-" : String.format("%.2f", value);
+    }
+
+    /**
+     * Judges the newest run in a history directory against the runs before it.
+     * Exits with 1 when it regressed, so it can gate a CI step.
+     */
+    public static void main(String[] args) throws IOException {
+        PerfHistory history = new PerfHistory(Path.of(args.length > 0 ? args[0] : PerfRun.historyDir("suite").toString()));
+        Map<String, PerfSample> latest = new TreeMap<>();
+        long newest = 0;
+        for (String series : history.series()) {
+            List<PerfSample> last = history.read(series, 1);
+            if (!last.isEmpty()) {
+                latest.put(series, last.get(0));
+                newest = Math.max(newest, last.get(0).getTimestamp());
+            }
+        }
+        // Only series measured by the newest run
+        long run = newest;
+        latest.values().removeIf(sample -> sample.getTimestamp() != run);
+
+        PerfRegression regression = compare(history, latest);
+        System.out.print(regression.report());
+        System.exit(regression.hasRegressions() ? 1 : 0);
+    }
+
+    public static class Finding {
+        private final String series;
+        private final String metric;
+        private final double baseline;
+        private final double current;
+        private final int baselineRuns;
+        private final Verdict verdict;
+
+        Finding(String series, String metric, double baseline, double current, int baselineRuns, Verdict verdict) {
+            this.series = series;
+            this.metric = metric;
+            this.baseline = baseline;
+            this.current = current;
+            this.baselineRuns = baselineRuns;
+            this.verdict = verdict;
+        }
+
+        public String getSeries() {
+            return series;
+        }
+
+        public String getMetric() {
+            return metric;
+        }
+
+        // Median of the baseline runs; NaN without any
+        public double getBaseline() {
+            return baseline;
+        }
+
+        public double getCurrent() {
+            return current;
+        }
+
+        // Relative change from the baseline, e.g. 0.4 for 40% higher; NaN without a baseline
+        public double getChange() {
+            return Double.isNaN(baseline) || baseline == 0 ? Double.NaN : current / baseline - 1;
+        }
+
+        public int getBaselineRuns() {
+            return baselineRuns;
+        }
+
+        public Verdict getVerdict() {
+            return verdict;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s %s: %.2f -> %.2f (%+.1f%%)", series, metric, baseline, current, getChange() * 100);
+        }
+    }
+}
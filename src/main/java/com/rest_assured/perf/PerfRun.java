@@ -0,0 +1,98 @@
+package com.rest_assured.perf;
+
+import com.rest_assured.common.ConfigManager;
+import com.rest_assured.replay.RecordReplay;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ties one run into the performance history: collects its samples, compares
+ * them with earlier runs (PerfRegression), appends them to the history and
+ * writes the diff report to target/perf-diff-<kind>.txt.
+ *
+ * History lives under perf.history.dir/<env>/<kind>, e.g. perf-history/dev/suite,
+ * so runs are only compared with runs of the same kind against the same
+ * environment (the stub counts as its own environment). Replayed runs are
+ * never recorded: their timings are not the service's.
+ */
+public class PerfRun {
+
+    private static final ConfigManager CONFIG = ConfigManager.get();
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.HOURS.toNanos(1);
+
+    // Wall time of each passed test method, keyed "Class.method"
+    private static final Map<String, Recorder> TESTS = new ConcurrentHashMap<>();
+
+    public static void recordTest(String name, long nanos) {
+        TESTS.computeIfAbsent(name, k -> new Recorder(HIGHEST_TRACKABLE_NANOS, 3))
+                .recordValue(Math.min(nanos, HIGHEST_TRACKABLE_NANOS));
+    }
+
+    public static boolean isEnabled() {
+        return CONFIG.getBoolean("perf.history.enabled", true) && RecordReplay.mode() != RecordReplay.Mode.REPLAY;
+    }
+
+    public static Path historyDir(String kind) {
+        String env = CONFIG.getBoolean("stub.enabled", false) ? "stub" : CONFIG.getEnv();
+        return Path.of(CONFIG.getString("perf.history.dir", "perf-history"), env, kind);
+    }
+
+    /**
+     * Samples of a test suite run: every endpoint LatencyRecorder has seen,
+     * plus every passed test ("test Class.method").
+     */
+    public static Map<String, PerfSample> suiteSamples(long timestamp) {
+        Map<String, PerfSample> samples = new TreeMap<>();
+        LatencyRecorder.snapshot().forEach((endpoint, histogram) ->
+                samples.put(endpoint, PerfSample.of(timestamp, histogram, 0)));
+        TESTS.forEach((name, recorder) -> {
+            Histogram histogram = recorder.getIntervalHistogram();
+            if (histogram.getTotalCount() > 0) {
+                samples.put("test " + name, PerfSample.of(timestamp, histogram, 0));
+            }
+        });
+        return samples;
+    }
+
+    /**
+     * Compares the samples with the history of this kind of run, then appends
+     * them. Prints and writes the report; returns null when history is disabled.
+     *
+     * @throws RuntimeException if perf.regression.fail=true and the run regressed
+     */
+    public static PerfRegression finish(String kind, Map<String, PerfSample> samples) {
+        if (!isEnabled() || samples.isEmpty()) {
+            return null;
+        }
+        PerfHistory history = new PerfHistory(historyDir(kind));
+        PerfRegression regression;
+        try {
+            regression = PerfRegression.compare(history, samples);
+            for (Map.Entry<String, PerfSample> entry : samples.entrySet()) {
+                history.append(entry.getKey(), entry.getValue());
+            }
+            Path report = Path.of("target", "perf-diff-" + kind + ".txt");
+            Files.createDirectories(report.getParent());
+            Files.write(report, regression.report().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to update performance history in " + history.getDir(), e);
+        }
+
+        System.out.println("====== Performance vs history (" + history.getDir() + ") ======");
+        System.out.print(regression.report());
+        if (regression.hasRegressions() && CONFIG.getBoolean("perf.regression.fail", false)) {
+            throw new RuntimeException("Performance regressed: " + regression.regressions());
+        }
+        return regression;
+    }
+}
@@ -0,0 +1,76 @@
+package com.rest_assured.perf;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * One run's figures for one series (an endpoint, a test or a load target):
+ * a row of PerfHistory. Latencies are in milliseconds; throughput is calls
+ * per second, or 0 when the run did not measure it.
+ */
+public class PerfSample {
+
+    private final long timestamp;
+    private final long count;
+    private final double p50Ms;
+    private final double p90Ms;
+    private final double p99Ms;
+    private final double maxMs;
+    private final double meanMs;
+    private final double throughput;
+
+    public PerfSample(long timestamp, long count, double p50Ms, double p90Ms, double p99Ms,
+                      double maxMs, double meanMs, double throughput) {
+        this.timestamp = timestamp;
+        this.count = count;
+        this.p50Ms = p50Ms;
+        this.p90Ms = p90Ms;
+        this.p99Ms = p99Ms;
+        this.maxMs = maxMs;
+        this.meanMs = meanMs;
+        this.throughput = throughput;
+    }
+
+    // Histogram of nanoseconds, as kept by LatencyRecorder
+    public static PerfSample of(long timestamp, Histogram nanos, double throughput) {
+        return new PerfSample(timestamp, nanos.getTotalCount(),
+                LatencyRecorder.toMillis(nanos.getValueAtPercentile(50)),
+                LatencyRecorder.toMillis(nanos.getValueAtPercentile(90)),
+                LatencyRecorder.toMillis(nanos.getValueAtPercentile(99)),
+                LatencyRecorder.toMillis(nanos.getMaxValue()),
+                nanos.getMean() / 1_000_000.0,
+                throughput);
+    }
+
+    // Epoch millis of the run; every series of one run shares it
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getP50Ms() {
+        return p50Ms;
+    }
+
+    public double getP90Ms() {
+        return p90Ms;
+    }
+
+    public double getP99Ms() {
+        return p99Ms;
+    }
+
+    public double getMaxMs() {
+        return maxMs;
+    }
+
+    public double getMeanMs() {
+        return meanMs;
+    }
+
+    public double getThroughput() {
+        return throughput;
+    }
+}
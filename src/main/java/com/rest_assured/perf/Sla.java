@@ -0,0 +1,34 @@
+package com.rest_assured.perf;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Latency budget for the HTTP calls a test makes through ApiUtils (and
+ * AsyncApiUtils), checked by SlaListener once the test method returns.
+ *
+ *   @Test
+ *   @Sla(p95Ms = 300, maxMs = 1000)
+ *   public void shouldGetBookByIdSuccessfully() { ... }
+ *
+ * On a class it applies to every test method without its own @Sla.
+ * A budget of 0 is not checked.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface Sla {
+
+    // 95th percentile of the test's calls, in milliseconds
+    long p95Ms() default 0;
+
+    // Slowest single call, in milliseconds
+    long maxMs() default 0;
+
+    // Only calls to this endpoint count, in LatencyRecorder's form ("GET /books/{id}"); empty for all
+    String endpoint() default "";
+
+    // Report a breach without failing the test
+    boolean warnOnly() default false;
+}
@@ -0,0 +1,99 @@
+package com.rest_assured.perf;
+
+import com.rest_assured.common.ConfigManager;
+import org.HdrHistogram.Histogram;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Enforces @Sla budgets. Registered in testng.xml next to AllureTestNg.
+ *
+ * Before an annotated test runs it opens a LatencyRecorder capture on the test
+ * thread; afterwards it compares the captured latencies with the budget. A
+ * breach fails a test that otherwise passed, so latency regressions break the
+ * build like functional ones.
+ *
+ * sla.mode=fail (default) | warn | off switches enforcement for a whole run,
+ * and sla.scale multiplies every budget (e.g. 2.0 on a slow shared runner).
+ */
+public class SlaListener implements IInvokedMethodListener {
+
+    private static final String MODE = ConfigManager.get().getString("sla.mode", "fail").trim().toLowerCase();
+    private static final double SCALE = ConfigManager.get().getDouble("sla.scale", 1.0);
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod() && !"off".equals(MODE) && sla(method) != null) {
+            LatencyRecorder.startCapture();
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod()) {
+            return;
+        }
+        Sla sla = sla(method);
+        LatencyRecorder.Capture capture = LatencyRecorder.endCapture();
+        if (sla == null || capture == null) {
+            return;
+        }
+
+        Histogram latencies = capture.histogram(sla.endpoint());
+        String scope = sla.endpoint().isEmpty() ? "any endpoint" : sla.endpoint();
+        if (latencies.getTotalCount() == 0) {
+            System.out.println("[SLA] " + testResult.getName() + ": no calls to " + scope + " were made; nothing checked");
+            return;
+        }
+
+        List<String> breaches = new ArrayList<>();
+        check(breaches, "p95", latencies.getValueAtPercentile(95), sla.p95Ms());
+        check(breaches, "max", latencies.getMaxValue(), sla.maxMs());
+
+        String summary = String.format("%s: %d call(s) to %s, p95 %.2f ms, max %.2f ms",
+                testResult.getName(), latencies.getTotalCount(), scope,
+                LatencyRecorder.toMillis(latencies.getValueAtPercentile(95)),
+                LatencyRecorder.toMillis(latencies.getMaxValue()));
+        Reporter.log("[SLA] " + summary);
+        if (breaches.isEmpty()) {
+            return;
+        }
+
+        String message = "SLA exceeded for " + summary + " (" + String.join(", ", breaches) + ")";
+        if (sla.warnOnly() || "warn".equals(MODE)) {
+            System.out.println("[SLA WARN] " + message);
+        } else if (testResult.isSuccess()) {
+            // A functional failure already reported stays the reason the test failed
+            testResult.setStatus(ITestResult.FAILURE);
+            testResult.setThrowable(new AssertionError(message));
+        } else {
+            System.out.println("[SLA] " + message);
+        }
+    }
+
+    private static void check(List<String> breaches, String label, long nanos, long budgetMs) {
+        if (budgetMs <= 0) {
+            return;
+        }
+        double budget = budgetMs * SCALE;
+        if (LatencyRecorder.toMillis(nanos) > budget) {
+            breaches.add(String.format("%s budget %.0f ms", label, budget));
+        }
+    }
+
+    // The method's @Sla, else its class's
+    private static Sla sla(IInvokedMethod method) {
+        Method javaMethod = method.getTestMethod().getConstructorOrMethod().getMethod();
+        if (javaMethod == null) {
+            return null;
+        }
+        Sla sla = javaMethod.getAnnotation(Sla.class);
+        return sla != null ? sla : javaMethod.getDeclaringClass().getAnnotation(Sla.class);
+    }
+}
@@ -0,0 +1,104 @@
+package com.rest_assured.replay;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Append-only file of recorded exchanges. Each record is
+ *
+ *   int    length of the rest of the record
+ *   short  signature length, then the signature (UTF-8), e.g. "GET /books/12"
+ *   short  status code
+ *   short  content type length, then the content type (UTF-8)
+ *   int    body length, then the body bytes
+ *
+ * Only what a replayed Response needs is kept: no request body, headers or
+ * timings. A record cut short by a crash is dropped when the file is reopened.
+ */
+public class ExchangeFile implements Closeable {
+
+    private final FileChannel channel;
+    private final DataOutputStream out;
+    // ReentrantLock rather than synchronized: appends come from virtual threads
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public ExchangeFile(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        channel.truncate(completeLength(channel));
+        channel.position(channel.size());
+        out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024));
+    }
+
+    public void append(String signature, int status, String contentType, byte[] body) throws IOException {
+        byte[] sig = signature.getBytes(StandardCharsets.UTF_8);
+        byte[] type = (contentType == null ? "" : contentType).getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream record = new ByteArrayOutputStream(16 + sig.length + type.length + body.length);
+        DataOutputStream fields = new DataOutputStream(record);
+        fields.writeShort(sig.length);
+        fields.write(sig);
+        fields.writeShort(status);
+        fields.writeShort(type.length);
+        fields.write(type);
+        fields.writeInt(body.length);
+        fields.write(body);
+
+        lock.lock();
+        try {
+            out.writeInt(record.size());
+            record.writeTo(out);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void flush() throws IOException {
+        lock.lock();
+        try {
+            out.flush();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            out.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Length of the file up to the end of its last complete record
+    static long completeLength(FileChannel channel) throws IOException {
+        long size = channel.size();
+        long position = 0;
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+        while (position + Integer.BYTES <= size) {
+            header.clear();
+            channel.read(header, position);
+            int length = header.getInt(0);
+            long end = position + Integer.BYTES + length;
+            if (length < 0 || end > size) {
+                break;
+            }
+            position = end;
+        }
+        return position;
+    }
+}
@@ -0,0 +1,160 @@
+package com.rest_assured.replay;
+
+import com.rest_assured.common.ConfigManager;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Captures real bookstore exchanges once and serves them again later without
+ * touching the network, for fast offline reruns and deterministic benchmarks.
+ *
+ *   mvn test -Dreplay.mode=record     # against the real service, appends to replay.file
+ *   mvn test -Dreplay.mode=replay     # answers every ApiUtils call from replay.file
+ *
+ * Exchanges are keyed by method, path and query ("GET /books/12"), so a
+ * recording replays against any base URL; with replay.matchBody=true the
+ * request body's hash is part of the key too. Record with data.seed and
+ * data.idBase fixed so a replayed run sends the same requests. A request with
+ * no recording fails (replay.onMiss=fail) or goes to the network (network).
+ *
+ * The filter sits innermost in HttpClientPool's specs, so latency, logging and
+ * buffering still see every replayed response.
+ */
+public class RecordReplay {
+
+    public enum Mode { OFF, RECORD, REPLAY }
+
+    private static final ConfigManager CONFIG = ConfigManager.get();
+    private static final Mode MODE = Mode.valueOf(CONFIG.getString("replay.mode", "off").toUpperCase());
+    private static final Path FILE = Paths.get(CONFIG.getString("replay.file", "target/recorded-exchanges.bin"));
+    private static final boolean MATCH_BODY = CONFIG.getBoolean("replay.matchBody", false);
+    private static final boolean MISS_TO_NETWORK = CONFIG.getString("replay.onMiss", "fail").equalsIgnoreCase("network");
+
+    private static final ExchangeFile RECORDING = MODE == Mode.RECORD ? openRecording() : null;
+    private static final ReplayStore STORE = MODE == Mode.REPLAY ? openStore() : null;
+
+    private static final OrderedFilter FILTER = new OrderedFilter() {
+        @Override
+        public Response filter(FilterableRequestSpecification requestSpec,
+                               FilterableResponseSpecification responseSpec, FilterContext ctx) {
+            return MODE == Mode.REPLAY ? replay(requestSpec, responseSpec, ctx) : record(requestSpec, responseSpec, ctx);
+        }
+
+        // Innermost: replaces (or watches) only the network call itself
+        @Override
+        public int getOrder() {
+            return OrderedFilter.LOWEST_PRECEDENCE;
+        }
+    };
+
+    public static boolean isActive() {
+        return MODE != Mode.OFF;
+    }
+
+    public static Mode mode() {
+        return MODE;
+    }
+
+    public static OrderedFilter filter() {
+        return FILTER;
+    }
+
+    // Writes out recorded exchanges still in the buffer; also done at JVM exit
+    public static void flush() {
+        if (RECORDING != null) {
+            try {
+                RECORDING.flush();
+            } catch (IOException e) {
+                System.out.println("[WARNING] Failed to flush recorded exchanges: " + e.getMessage());
+            }
+        }
+    }
+
+    public static String signature(FilterableRequestSpecification requestSpec) {
+        URI uri = URI.create(requestSpec.getURI());
+        String signature = requestSpec.getMethod() + " " + uri.getRawPath()
+                + (uri.getRawQuery() == null ? "" : "?" + uri.getRawQuery());
+        return MATCH_BODY ? signature + " #" + Long.toHexString(bodyHash(requestSpec.getBody())) : signature;
+    }
+
+    private static Response record(FilterableRequestSpecification requestSpec,
+                                   FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        // Buffers the body (RestAssured keeps it), so streaming callers can still read it afterwards
+        byte[] body = response.asByteArray();
+        try {
+            RECORDING.append(signature(requestSpec), response.getStatusCode(), response.getContentType(), body);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to record exchange to " + FILE, e);
+        }
+        return response;
+    }
+
+    private static Response replay(FilterableRequestSpecification requestSpec,
+                                   FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        String signature = signature(requestSpec);
+        ReplayStore.Recorded recorded = STORE.next(signature);
+        if (recorded == null) {
+            if (MISS_TO_NETWORK) {
+                return ctx.next(requestSpec, responseSpec);
+            }
+            throw new RuntimeException("No recorded exchange for " + signature + " in " + FILE);
+        }
+        return new ResponseBuilder()
+                .setStatusCode(recorded.getStatus())
+                .setStatusLine("HTTP/1.1 " + recorded.getStatus())
+                .setContentType(recorded.getContentType())
+                .setBody(STORE.body(recorded))
+                .build();
+    }
+
+    // FNV-1a over the body as sent; strings are hashed as their UTF-8 bytes
+    private static long bodyHash(Object body) {
+        byte[] bytes = body == null ? new byte[0]
+                : body instanceof byte[] ? (byte[]) body : body.toString().getBytes(StandardCharsets.UTF_8);
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static ExchangeFile openRecording() {
+        try {
+            ExchangeFile file = new ExchangeFile(FILE);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    file.close();
+                } catch (IOException e) {
+                    System.out.println("[WARNING] Failed to close " + FILE + ": " + e.getMessage());
+                }
+            }));
+            System.out.println("Recording exchanges to " + FILE);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open " + FILE + " for recording", e);
+        }
+    }
+
+    private static ReplayStore openStore() {
+        try {
+            ReplayStore store = new ReplayStore(FILE);
+            System.out.println("Replaying " + store.size() + " exchanges (" + store.signatures() + " signatures) from " + FILE);
+            return store;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open " + FILE + " for replay", e);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.rest_assured.replay;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Read-only view of an ExchangeFile, memory-mapped once and indexed by
+ * signature. Bodies stay in the mapping until a lookup copies one out, so
+ * opening a large recording costs one pass over its headers and no heap for
+ * the bodies.
+ *
+ * A signature recorded several times (e.g. GET /books before and after a
+ * create) is answered with its recordings in order, wrapping around at the end.
+ * Safe for any number of threads.
+ */
+public class ReplayStore {
+
+    private final MappedByteBuffer file;
+    private final Map<String, Recordings> index = new HashMap<>();
+    private final int size;
+
+    /**
+     * @throws IOException if the file cannot be read
+     * @throws RuntimeException if the file is larger than 2 GB
+     */
+    public ReplayStore(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long length = ExchangeFile.completeLength(channel);
+            if (length > Integer.MAX_VALUE) {
+                throw new RuntimeException("Replay file " + path + " is larger than 2 GB; record a smaller run");
+            }
+            // The mapping stays valid after the channel is closed
+            file = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+        }
+
+        Map<String, List<Recorded>> bySignature = new HashMap<>();
+        int position = 0;
+        int count = 0;
+        while (position < file.limit()) {
+            int end = position + Integer.BYTES + file.getInt(position);
+            int p = position + Integer.BYTES;
+
+            int sigLength = file.getShort(p) & 0xFFFF;
+            String signature = string(p + Short.BYTES, sigLength);
+            p += Short.BYTES + sigLength;
+            int status = file.getShort(p) & 0xFFFF;
+            p += Short.BYTES;
+            int typeLength = file.getShort(p) & 0xFFFF;
+            String contentType = string(p + Short.BYTES, typeLength);
+            p += Short.BYTES + typeLength;
+            int bodyLength = file.getInt(p);
+
+            bySignature.computeIfAbsent(signature, k -> new ArrayList<>())
+                    .add(new Recorded(status, contentType, p + Integer.BYTES, bodyLength));
+            position = end;
+            count++;
+        }
+        bySignature.forEach((signature, list) -> index.put(signature, new Recordings(list.toArray(new Recorded[0]))));
+        size = count;
+    }
+
+    /**
+     * Next recording for the signature, or null if it was never recorded.
+     */
+    public Recorded next(String signature) {
+        Recordings recordings = index.get(signature);
+        return recordings == null ? null : recordings.next();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int signatures() {
+        return index.size();
+    }
+
+    // Copy of a recorded body; absolute reads leave the shared buffer's position alone
+    public byte[] body(Recorded recorded) {
+        byte[] body = new byte[recorded.bodyLength];
+        file.get(recorded.bodyOffset, body);
+        return body;
+    }
+
+    private String string(int offset, int length) {
+        byte[] bytes = new byte[length];
+        file.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public static class Recorded {
+        final int status;
+        final String contentType;
+        final int bodyOffset;
+        final int bodyLength;
+
+        Recorded(int status, String contentType, int bodyOffset, int bodyLength) {
+            this.status = status;
+            this.contentType = contentType;
+            this.bodyOffset = bodyOffset;
+            this.bodyLength = bodyLength;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+    }
+
+    private static class Recordings {
+        private final Recorded[] recorded;
+        private final AtomicInteger cursor = new AtomicInteger();
+
+        Recordings(Recorded[] recorded) {
+            this.recorded = recorded;
+        }
+
+        Recorded next() {
+            if (recorded.length == 1) {
+                return recorded[0];
+            }
+            return recorded[Math.floorMod(cursor.getAndIncrement(), recorded.length)];
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package com.rest_assured.schema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * A JSON Schema compiled once into a tree of checks, so validating a document
+ * is a single walk over it with no schema lookups, regex compilation or
+ * keyword dispatch per node. Immutable and safe to share between threads.
+ *
+ * Supported keywords (the subset the bookstore schemas use): type (one or a
+ * list), required, properties, additionalProperties: false, items, minItems,
+ * maxItems, minLength, maxLength, pattern, minimum, maximum, enum and $ref to
+ * another file under schemas/. Other keywords are ignored.
+ */
+public class JsonSchema {
+
+    private static final int OBJECT = 1;
+    private static final int ARRAY = 1 << 1;
+    private static final int STRING = 1 << 2;
+    private static final int INTEGER = 1 << 3;
+    private static final int NUMBER = 1 << 4;
+    private static final int BOOLEAN = 1 << 5;
+    private static final int NULL = 1 << 6;
+    private static final int ANY = -1;
+
+    private final String name;
+    private final int types;
+    private final String[] required;
+    private final Map<String, JsonSchema> properties;
+    private final boolean additionalProperties;
+    private final JsonSchema items;
+    private final int minItems;
+    private final int maxItems;
+    private final int minLength;
+    private final int maxLength;
+    private final Pattern pattern;
+    private final Double minimum;
+    private final Double maximum;
+    private final Set<String> enumValues;
+
+    /**
+     * @param resolver compiles the schema a "$ref" names
+     * @throws RuntimeException if the schema uses a type this compiler does not know
+     */
+    JsonSchema(String name, JsonNode schema, Function<String, JsonSchema> resolver) {
+        JsonNode ref = schema.get("$ref");
+        JsonSchema target = ref == null ? null : resolver.apply(ref.asText());
+        JsonNode source = target != null ? null : schema;
+
+        this.name = name;
+        if (target != null) {
+            types = target.types;
+            required = target.required;
+            properties = target.properties;
+            additionalProperties = target.additionalProperties;
+            items = target.items;
+            minItems = target.minItems;
+            maxItems = target.maxItems;
+            minLength = target.minLength;
+            maxLength = target.maxLength;
+            pattern = target.pattern;
+            minimum = target.minimum;
+            maximum = target.maximum;
+            enumValues = target.enumValues;
+            return;
+        }
+
+        types = types(source.get("type"));
+        required = new String[source.path("required").size()];
+        for (int i = 0; i < required.length; i++) {
+            required[i] = source.get("required").get(i).asText();
+        }
+        Map<String, JsonSchema> props = new HashMap<>();
+        source.path("properties").fields().forEachRemaining(field ->
+                props.put(field.getKey(), new JsonSchema(name + "." + field.getKey(), field.getValue(), resolver)));
+        properties = props;
+        additionalProperties = source.path("additionalProperties").asBoolean(true);
+        items = source.has("items") ? new JsonSchema(name + "[]", source.get("items"), resolver) : null;
+        minItems = source.path("minItems").asInt(0);
+        maxItems = source.path("maxItems").asInt(Integer.MAX_VALUE);
+        minLength = source.path("minLength").asInt(0);
+        maxLength = source.path("maxLength").asInt(Integer.MAX_VALUE);
+        pattern = source.has("pattern") ? Pattern.compile(source.get("pattern").asText()) : null;
+        minimum = source.has("minimum") ? source.get("minimum").asDouble() : null;
+        maximum = source.has("maximum") ? source.get("maximum").asDouble() : null;
+        if (source.has("enum")) {
+            Set<String> values = new HashSet<>();
+            source.get("enum").forEach(value -> values.add(value.asText()));
+            enumValues = values;
+        } else {
+            enumValues = null;
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    // Schema of the elements of an array schema, for validating while streaming; null if none
+    public JsonSchema items() {
+        return items;
+    }
+
+    public ValidationResult validate(JsonNode document) {
+        ValidationResult result = new ValidationResult();
+        validate(document, result);
+        return result;
+    }
+
+    // Validates one more document (e.g. the next streamed element) into an existing result
+    public void validate(JsonNode document, ValidationResult result) {
+        result.countChecked();
+        check(document, null, result);
+    }
+
+    // Validates element `index` of a streamed array; violations are reported as $[index]...
+    public void validateElement(JsonNode element, long index, ValidationResult result) {
+        result.countChecked();
+        check(element, new Location(null, null, index), result);
+    }
+
+    // path is only turned into a string when a violation is reported
+    private void check(JsonNode node, Location path, ValidationResult result) {
+        int type = typeOf(node);
+        if ((types & type) == 0) {
+            result.addViolation(Location.toString(path) + ": expected " + typeNames(types) + " but was " + typeNames(type));
+            return;
+        }
+        switch (type) {
+            case OBJECT:
+                checkObject(node, path, result);
+                break;
+            case ARRAY:
+                checkArray(node, path, result);
+                break;
+            case STRING:
+                checkString(node.textValue(), path, result);
+                break;
+            case INTEGER:
+            case NUMBER:
+                checkNumber(node, path, result);
+                break;
+            default:
+                break;
+        }
+        if (enumValues != null && type != STRING && !enumValues.contains(node.asText())) {
+            result.addViolation(Location.toString(path) + ": " + node + " is not one of " + enumValues);
+        }
+    }
+
+    private void checkObject(JsonNode node, Location path, ValidationResult result) {
+        for (String field : required) {
+            if (!node.has(field)) {
+                result.addViolation(Location.toString(new Location(path, field, -1)) + ": required field is missing");
+            }
+        }
+        if (properties.isEmpty() && additionalProperties) {
+            return;
+        }
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonSchema property = properties.get(field.getKey());
+            if (property != null) {
+                property.check(field.getValue(), new Location(path, field.getKey(), -1), result);
+            } else if (!additionalProperties) {
+                result.addViolation(Location.toString(new Location(path, field.getKey(), -1)) + ": field is not allowed");
+            }
+        }
+    }
+
+    private void checkArray(JsonNode node, Location path, ValidationResult result) {
+        int size = node.size();
+        if (size < minItems || size > maxItems) {
+            result.addViolation(Location.toString(path) + ": " + size + " items, expected " + minItems + ".." + maxItems);
+        }
+        if (items != null) {
+            for (int i = 0; i < size; i++) {
+                items.check(node.get(i), new Location(path, null, i), result);
+            }
+        }
+    }
+
+    private void checkString(String value, Location path, ValidationResult result) {
+        int length = value.length();
+        if (length < minLength) {
+            result.addViolation(Location.toString(path) + ": length " + length + " is below minLength " + minLength);
+        } else if (length > maxLength) {
+            result.addViolation(Location.toString(path) + ": length " + length + " is above maxLength " + maxLength);
+        }
+        if (pattern != null && !pattern.matcher(value).find()) {
+            result.addViolation(Location.toString(path) + ": \"" + value + "\" does not match " + pattern);
+        }
+        if (enumValues != null && !enumValues.contains(value)) {
+            result.addViolation(Location.toString(path) + ": \"" + value + "\" is not one of " + enumValues);
+        }
+    }
+
+    private void checkNumber(JsonNode node, Location path, ValidationResult result) {
+        double value = node.doubleValue();
+        if (minimum != null && value < minimum) {
+            result.addViolation(Location.toString(path) + ": " + node + " is below minimum " + format(minimum));
+        } else if (maximum != null && value > maximum) {
+            result.addViolation(Location.toString(path) + ": " + node + " is above maximum " + format(maximum));
+        }
+    }
+
+    // 1.0 -> "1", 1.5 -> "1.5"
+    private static String format(double bound) {
+        return bound == Math.rint(bound) && Math.abs(bound) < 1e15 ? Long.toString((long) bound) : Double.toString(bound);
+    }
+
+    private static int typeOf(JsonNode node) {
+        if (node.isObject()) {
+            return OBJECT;
+        } else if (node.isArray()) {
+            return ARRAY;
+        } else if (node.isTextual()) {
+            return STRING;
+        } else if (node.isIntegralNumber()) {
+            return INTEGER;
+        } else if (node.isNumber()) {
+            return NUMBER;
+        } else if (node.isBoolean()) {
+            return BOOLEAN;
+        }
+        return NULL;
+    }
+
+    private static int types(JsonNode type) {
+        if (type == null) {
+            return ANY;
+        }
+        if (type.isArray()) {
+            int mask = 0;
+            for (JsonNode t : type) {
+                mask |= types(t);
+            }
+            return mask;
+        }
+        switch (type.asText()) {
+            case "object":
+                return OBJECT;
+            case "array":
+                return ARRAY;
+            case "string":
+                return STRING;
+            case "integer":
+                return INTEGER;
+            // An integral value is also a valid number
+            case "number":
+                return NUMBER | INTEGER;
+            case "boolean":
+                return BOOLEAN;
+            case "null":
+                return NULL;
+            default:
+                throw new RuntimeException("Unsupported schema type: " + type.asText());
+        }
+    }
+
+    private static String typeNames(int mask) {
+        if (mask == ANY) {
+            return "any";
+        }
+        StringBuilder sb = new StringBuilder();
+        String[] names = {"object", "array", "string", "integer", "number", "boolean", "null"};
+        for (int i = 0; i < names.length; i++) {
+            if ((mask & (1 << i)) != 0 && !(names[i].equals("integer") && (mask & NUMBER) != 0)) {
+                sb.append(sb.length() == 0 ? "" : "|").append(names[i]);
+            }
+        }
+        return sb.toString();
+    }
+
+    // Parent-linked JSON path, e.g. $[3].author
+    private static final class Location {
+        final Location parent;
+        final String field;
+        final long index;
+
+        Location(Location parent, String field, long index) {
+            this.parent = parent;
+            this.field = field;
+            this.index = index;
+        }
+
+        static String toString(Location location) {
+            if (location == null) {
+                return "$";
+            }
+            String parent = toString(location.parent);
+            return location.field != null ? parent + "." + location.field : parent + "[" + location.index + "]";
+        }
+    }
+}
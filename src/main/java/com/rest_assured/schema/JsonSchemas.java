@@ -0,0 +1,128 @@
+package com.rest_assured.schema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.rest_assured.common.JsonResponse;
+import com.rest_assured.common.JsonStreams;
+import com.rest_assured.common.Payloads;
+import com.rest_assured.perf.LatencyRecorder;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Schemas of the bookstore's success responses, loaded from
+ * src/main/resources/schemas and compiled once per JVM.
+ *
+ *   ValidationResult result = JsonSchemas.validate("GET /books/{id}", response);
+ *   Assert.assertTrue(result.isValid(), result.toString());
+ *
+ *   // Every book of GET /books, one element in memory at a time
+ *   ValidationResult all = JsonSchemas.validateElements(ApiUtils.getStreamingRequest("/books", token), "book-list");
+ *
+ * Endpoints use LatencyRecorder's form ("GET /books/{id}"); a concrete path
+ * such as "GET /books/42" is normalized the same way.
+ */
+public class JsonSchemas {
+
+    private static final Map<String, String> ENDPOINTS = Map.of(
+            "GET /health", "health",
+            "POST /signup", "message",
+            "POST /login", "token",
+            "GET /books", "book-list",
+            "POST /books", "book",
+            "GET /books/{id}", "book",
+            "PUT /books/{id}", "book",
+            "DELETE /books/{id}", "message");
+
+    private static final Map<String, JsonSchema> BY_NAME = new ConcurrentHashMap<>();
+    private static final Map<String, JsonSchema> BY_ENDPOINT = new ConcurrentHashMap<>();
+
+    /**
+     * Compiled schema from schemas/<name>.json.
+     *
+     * @throws RuntimeException if there is no such schema
+     */
+    public static JsonSchema get(String name) {
+        JsonSchema schema = BY_NAME.get(name);
+        if (schema != null) {
+            return schema;
+        }
+        // Compiled outside computeIfAbsent: a $ref compiles (and caches) another schema on the way
+        schema = compile(name);
+        JsonSchema existing = BY_NAME.putIfAbsent(name, schema);
+        return existing != null ? existing : schema;
+    }
+
+    /**
+     * Schema of a 2xx answer from the endpoint, e.g. "GET /books/{id}" or "POST /books/".
+     *
+     * @throws RuntimeException if no schema is registered for it
+     */
+    public static JsonSchema forEndpoint(String endpoint) {
+        JsonSchema schema = BY_ENDPOINT.get(endpoint);
+        if (schema != null) {
+            return schema;
+        }
+        String key = normalize(endpoint);
+        String name = ENDPOINTS.get(key);
+        if (name == null) {
+            throw new RuntimeException("No schema registered for " + endpoint);
+        }
+        schema = get(name);
+        BY_ENDPOINT.put(endpoint, schema);
+        return schema;
+    }
+
+    // Validates a buffered response against its endpoint's schema, reusing an already parsed body
+    public static ValidationResult validate(String endpoint, Response response) {
+        return forEndpoint(endpoint).validate(JsonResponse.of(response).json());
+    }
+
+    public static ValidationResult validate(String endpoint, JsonResponse response) {
+        return forEndpoint(endpoint).validate(response.json());
+    }
+
+    /**
+     * Validates every element of a streamed array response (ApiUtils.getStreamingRequest)
+     * against the items schema of the named array schema, while reading it.
+     *
+     * @throws RuntimeException if the schema is not an array schema or the body is not an array
+     */
+    public static ValidationResult validateElements(Response response, String arraySchema) {
+        JsonSchema items = get(arraySchema).items();
+        if (items == null) {
+            throw new RuntimeException("Schema " + arraySchema + " has no items schema");
+        }
+        ValidationResult result = new ValidationResult();
+        long[] index = {0};
+        JsonStreams.forEachElement(response, element -> {
+            items.validateElement(element, index[0]++, result);
+            return true;
+        });
+        return result;
+    }
+
+    // "GET /books/42/" -> "GET /books/{id}"
+    private static String normalize(String endpoint) {
+        int space = endpoint.indexOf(' ');
+        String key = LatencyRecorder.key(endpoint.substring(0, space), endpoint.substring(space + 1));
+        return key.length() > space + 2 && key.endsWith("/") ? key.substring(0, key.length() - 1) : key;
+    }
+
+    private static JsonSchema compile(String name) {
+        String resource = "/schemas/" + (name.endsWith(".json") ? name : name + ".json");
+        try (InputStream in = JsonSchemas.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new RuntimeException("Schema not found on the classpath: " + resource);
+            }
+            JsonNode schema = Payloads.mapper().readTree(in);
+            return new JsonSchema(name, schema, ref -> get(ref.endsWith(".json") ? ref.substring(0, ref.length() - 5) : ref));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read schema " + resource, e);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.rest_assured.schema;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of validating one document or every element of a streamed array.
+ * Only the first MAX_MESSAGES violations are kept, so validating a huge
+ * catalog full of bad rows still uses fixed memory.
+ */
+public class ValidationResult {
+
+    static final int MAX_MESSAGES = 20;
+
+    private final List<String> messages = new ArrayList<>();
+    private long violations;
+    private long checked;
+
+    void addViolation(String message) {
+        violations++;
+        if (messages.size() < MAX_MESSAGES) {
+            messages.add(message);
+        }
+    }
+
+    void countChecked() {
+        checked++;
+    }
+
+    public boolean isValid() {
+        return violations == 0;
+    }
+
+    // Number of documents (or array elements) validated
+    public long getChecked() {
+        return checked;
+    }
+
+    public long getViolations() {
+        return violations;
+    }
+
+    public List<String> getMessages() {
+        return Collections.unmodifiableList(messages);
+    }
+
+    @Override
+    public String toString() {
+        if (isValid()) {
+            return "valid (" + checked + " checked)";
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append(violations).append(" schema violation(s) in ").append(checked).append(" checked");
+        for (String message : messages) {
+            sb.append("\n  ").append(message);
+        }
+        if (violations > messages.size()) {
+            sb.append("\n  ... ").append(violations - messages.size()).append(" more");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,256 @@
+package com.rest_assured.seed;
+
+import com.project.base.BaseClass;
+import com.rest_assured.common.ApiUtils;
+import com.rest_assured.common.AsyncApiUtils;
+import com.rest_assured.common.ConfigManager;
+import com.rest_assured.common.PayloadTemplate;
+import com.rest_assured.common.RandomDataGenerator;
+import com.rest_assured.common.TokenManager;
+import com.rest_assured.model.Book;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Seeds the catalog with seed.count books (IDs seed.startId onwards) for
+ * benchmarks and large-catalog tests.
+ *
+ *   mvn -q compile exec:java -Dexec.mainClass=com.rest_assured.seed.CatalogSeeder \
+ *       -Dseed.count=100000 -Dseed.concurrency=48
+ *
+ * - At most seed.concurrency books are in flight; the producer blocks until a
+ *   slot frees up, so memory stays flat however many books are requested.
+ * - Every seeded ID is appended to seed.idFile. A rerun skips IDs already in the
+ *   file, so an interrupted run resumes where it stopped. An ID whose POST fails
+ *   but which already exists (left over from the interrupted run) counts as seeded.
+ * - Progress is printed every seed.progressSec seconds.
+ */
+public class CatalogSeeder {
+
+    private static final int MAX_ATTEMPTS = 3;
+    // Every field varies per book, but the key names and layout are encoded once
+    private static final PayloadTemplate BOOK_TEMPLATE =
+            PayloadTemplate.of(new Book(), "id", "name", "author", "published_year", "book_summary");
+
+    private final int count;
+    private final int startId;
+    private final int concurrency;
+    private final Path idFile;
+    private final Duration progressInterval;
+
+    private final LongAdder created = new LongAdder();
+    private final LongAdder alreadyPresent = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public CatalogSeeder(int count, int startId, int concurrency, Path idFile, Duration progressInterval) {
+        this.count = count;
+        this.startId = startId;
+        this.concurrency = concurrency;
+        this.idFile = idFile;
+        this.progressInterval = progressInterval;
+    }
+
+    public static CatalogSeeder fromConfig() {
+        ConfigManager config = ConfigManager.get();
+        return new CatalogSeeder(
+                config.getInt("seed.count", 100_000),
+                config.getInt("seed.startId", 10_000_000),
+                config.getInt("seed.concurrency", 32),
+                Paths.get(config.getString("seed.idFile", "target/seeded-books.ids")),
+                config.getSeconds("seed.progressSec", 5L));
+    }
+
+    public static void main(String[] args) {
+        new BaseClass().setup();
+        CatalogSeeder seeder = fromConfig();
+        try {
+            seeder.run();
+        } catch (RuntimeException e) {
+            // Exit even though the stub bookstore's threads are still running
+            e.printStackTrace();
+            System.exit(1);
+        }
+        System.exit(seeder.getFailed() > 0 ? 1 : 0);
+    }
+
+    /**
+     * Seeds every ID in the range that is not yet in the ID file and waits for
+     * the last request to finish.
+     *
+     * @throws RuntimeException if the ID file cannot be read or written
+     */
+    public void run() {
+        BitSet done = new BitSet(count);
+        long recorded;
+        try {
+            recorded = SeededIdFile.forEach(idFile, id -> {
+                if (id >= startId && id - startId < count) {
+                    done.set(id - startId);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + idFile, e);
+        }
+        int remaining = count - done.cardinality();
+        System.out.println("Seeding " + remaining + " of " + count + " books (ids " + startId + ".." + (startId + count - 1)
+                + "), " + recorded + " ids already in " + idFile);
+
+        Semaphore slots = new Semaphore(concurrency);
+        // First failure to record an ID; it stops the producer and is rethrown once the in-flight books are done
+        AtomicReference<RuntimeException> recordError = new AtomicReference<>();
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("seed-progress").daemon().factory());
+        long start = System.nanoTime();
+
+        try (SeededIdFile file = new SeededIdFile(idFile)) {
+            Thread flushOnExit = new Thread(() -> flushQuietly(file));
+            Runtime.getRuntime().addShutdownHook(flushOnExit);
+            reporter.scheduleAtFixedRate(() -> {
+                flushQuietly(file);
+                printProgress(remaining, start);
+            }, progressInterval.toMillis(), progressInterval.toMillis(), TimeUnit.MILLISECONDS);
+
+            for (int i = done.nextClearBit(0); i < count && !Thread.currentThread().isInterrupted(); i = done.nextClearBit(i + 1)) {
+                slots.acquireUninterruptibly();
+                if (recordError.get() != null) {
+                    slots.release();
+                    break;
+                }
+                int id = startId + i;
+                AsyncApiUtils.submit(() -> seedOne(id)).whenComplete((outcome, error) -> {
+                    try {
+                        record(file, id, error == null ? outcome : Outcome.FAILED);
+                    } catch (RuntimeException e) {
+                        recordError.compareAndSet(null, e);
+                    } finally {
+                        slots.release();
+                    }
+                });
+            }
+
+            // Wait for the books still in flight
+            slots.acquireUninterruptibly(concurrency);
+            reporter.shutdownNow();
+            reporter.awaitTermination(1, TimeUnit.SECONDS);
+            Runtime.getRuntime().removeShutdownHook(flushOnExit);
+            if (recordError.get() != null) {
+                throw recordError.get();
+            }
+            file.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write " + idFile, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            reporter.shutdownNow();
+        }
+
+        printProgress(remaining, start);
+        System.out.println("Seeding finished: " + created.sum() + " created, " + alreadyPresent.sum()
+                + " already present, " + failed.sum() + " failed");
+    }
+
+    public long getCreated() {
+        return created.sum();
+    }
+
+    public long getAlreadyPresent() {
+        return alreadyPresent.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    private Outcome seedOne(int id) {
+        byte[] payload = BOOK_TEMPLATE.render(id, RandomDataGenerator.generateRandomName(),
+                RandomDataGenerator.generateRandomAuthor(), RandomDataGenerator.generateRandomPublishedYear(),
+                RandomDataGenerator.generateRandomSummary());
+        for (int attempt = 1; ; attempt++) {
+            int status;
+            try {
+                status = ApiUtils.postRequest("/books/", payload, TokenManager.getToken()).getStatusCode();
+            } catch (RuntimeException e) {
+                status = -1;
+            }
+            if (status == 200) {
+                return Outcome.CREATED;
+            }
+            if (exists(id)) {
+                return Outcome.PRESENT;
+            }
+            // Only connection errors and 5xx are worth another try
+            if (attempt == MAX_ATTEMPTS || (status >= 0 && status < 500)) {
+                return Outcome.FAILED;
+            }
+            try {
+                Thread.sleep(100L * attempt);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Outcome.FAILED;
+            }
+        }
+    }
+
+    private boolean exists(int id) {
+        try {
+            Response response = ApiUtils.getRequest("/books/" + id, TokenManager.getToken());
+            return response.getStatusCode() == 200;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private void record(SeededIdFile file, int id, Outcome outcome) {
+        switch (outcome) {
+            case CREATED:
+                created.increment();
+                break;
+            case PRESENT:
+                alreadyPresent.increment();
+                break;
+            default:
+                failed.increment();
+                return;
+        }
+        try {
+            file.append(id);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to record seeded id " + id, e);
+        }
+    }
+
+    private void printProgress(int total, long startNanos) {
+        long seeded = created.sum() + alreadyPresent.sum();
+        long processed = seeded + failed.sum();
+        double seconds = Math.max((System.nanoTime() - startNanos) / 1e9, 0.001);
+        double rate = processed / seconds;
+        long etaSec = rate == 0 ? -1 : Math.round((total - processed) / rate);
+        System.out.println(String.format("seeded %d/%d (failed %d, in flight %d) %.1f books/s, eta %ds",
+                seeded, total, failed.sum(), AsyncApiUtils.inFlight(), rate, etaSec));
+    }
+
+    private static void flushQuietly(SeededIdFile file) {
+        try {
+            file.flush();
+        } catch (IOException e) {
+            System.out.println("[WARNING] Failed to flush seeded ids: " + e.getMessage());
+        }
+    }
+
+    private enum Outcome {
+        CREATED, PRESENT, FAILED
+    }
+}
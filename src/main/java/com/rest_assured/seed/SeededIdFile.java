@@ -0,0 +1,92 @@
+package com.rest_assured.seed;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntConsumer;
+
+/**
+ * Append-only file of seeded book IDs, 4 bytes per ID (100k books = 400 KB).
+ * A write cut short by a crash leaves a partial last ID, which is dropped when
+ * the file is read or reopened.
+ */
+public class SeededIdFile implements Closeable {
+
+    private final FileChannel channel;
+    private final DataOutputStream out;
+    // ReentrantLock rather than synchronized: appends come from virtual threads
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public SeededIdFile(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        long size = channel.size();
+        channel.truncate(size - size % Integer.BYTES);
+        channel.position(channel.size());
+        out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024));
+    }
+
+    /**
+     * Calls onId for every complete ID in the file; a missing file has none.
+     *
+     * @return number of IDs read
+     */
+    public static long forEach(Path path, IntConsumer onId) throws IOException {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        long count = 0;
+        try (InputStream file = Files.newInputStream(path);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(file, 64 * 1024))) {
+            while (true) {
+                onId.accept(in.readInt());
+                count++;
+            }
+        } catch (EOFException e) {
+            return count;
+        }
+    }
+
+    public void append(int id) throws IOException {
+        lock.lock();
+        try {
+            out.writeInt(id);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Pushes buffered IDs to disk; called on every progress tick so a crash loses at most one interval
+    public void flush() throws IOException {
+        lock.lock();
+        try {
+            out.flush();
+            channel.force(false);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            out.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
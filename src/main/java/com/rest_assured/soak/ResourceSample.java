@@ -0,0 +1,63 @@
+package com.rest_assured.soak;
+
+/**
+ * JVM and client resources at one moment of a soak run. Values are indexed by
+ * Metric; a metric the platform cannot report (e.g. open files on Windows) is NaN.
+ */
+public class ResourceSample {
+
+    /**
+     * What ResourceSampler measures. `trend` says which way a sustained trend
+     * means trouble: growth of a resource, or decline of throughput.
+     */
+    public enum Metric {
+        HEAP_USED("heap used", "MB", Trend.NONE),
+        HEAP_AFTER_GC("heap after GC", "MB", Trend.GROWTH),
+        NON_HEAP("non-heap", "MB", Trend.GROWTH),
+        GC_PAUSE_MAX("max GC pause", "ms", Trend.GROWTH),
+        GC_TIME("GC time", "ms", Trend.NONE),
+        THREADS("threads", "", Trend.GROWTH),
+        OPEN_FILES("open files", "", Trend.GROWTH),
+        POOL_LEASED("pool leased", "", Trend.NONE),
+        POOL_OPEN("pool open", "", Trend.GROWTH),
+        SCENARIOS("scenarios/s", "", Trend.DECLINE),
+        ERRORS("errors/s", "", Trend.GROWTH);
+
+        private final String label;
+        private final String unit;
+        private final Trend trend;
+
+        Metric(String label, String unit, Trend trend) {
+            this.label = label;
+            this.unit = unit;
+            this.trend = trend;
+        }
+
+        public String getLabel() {
+            return unit.isEmpty() ? label : label + " (" + unit + ")";
+        }
+
+        public Trend getTrend() {
+            return trend;
+        }
+    }
+
+    public enum Trend { GROWTH, DECLINE, NONE }
+
+    private final long elapsedMillis;
+    private final double[] values;
+
+    ResourceSample(long elapsedMillis, double[] values) {
+        this.elapsedMillis = elapsedMillis;
+        this.values = values;
+    }
+
+    // Since the sampler started
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public double get(Metric metric) {
+        return values[metric.ordinal()];
+    }
+}
@@ -0,0 +1,187 @@
+package com.rest_assured.soak;
+
+import com.rest_assured.common.HttpClientPool;
+import com.rest_assured.soak.ResourceSample.Metric;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.UnixOperatingSystemMXBean;
+import org.apache.http.pool.PoolStats;
+
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Samples heap, GC, threads, open files and connection pool stats through the
+ * platform MXBeans at a fixed interval, on its own daemon thread.
+ *
+ * Heap after GC and GC pauses come from GC notifications rather than polling:
+ * "heap used" is a sawtooth that says little about leaks, while the lowest
+ * heap left after a collection in each interval only climbs run after run
+ * when something is retained.
+ */
+public class ResourceSampler {
+
+    private static final double MB = 1024.0 * 1024.0;
+
+    private final Duration interval;
+    private final LongSupplier scenarios;
+    private final LongSupplier errors;
+    private final List<ResourceSample> samples = new ArrayList<>();
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    private final Set<String> heapPools = new HashSet<>();
+
+    // Written by the GC notification thread
+    private final AtomicLong heapAfterGc = new AtomicLong(-1);
+    private final AtomicLong minHeapAfterGc = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong maxPauseMillis = new AtomicLong();
+    private final NotificationListener gcListener = (notification, handback) -> {
+        if (GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            onGc(GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData()));
+        }
+    };
+
+    private ScheduledExecutorService timer;
+    private long startNanos;
+    private long lastNanos;
+    private long lastGcMillis;
+    private long lastScenarios;
+    private long lastErrors;
+
+    /**
+     * @param scenarios running count of completed scenarios, turned into a rate per interval
+     * @param errors    running count of failed scenarios
+     */
+    public ResourceSampler(Duration interval, LongSupplier scenarios, LongSupplier errors) {
+        this.interval = interval;
+        this.scenarios = scenarios;
+        this.errors = errors;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                heapPools.add(pool.getName());
+            }
+        }
+    }
+
+    public synchronized void start() {
+        for (GarbageCollectorMXBean collector : collectors) {
+            if (collector instanceof NotificationEmitter) {
+                ((NotificationEmitter) collector).addNotificationListener(gcListener, null, null);
+            }
+        }
+        startNanos = System.nanoTime();
+        lastNanos = startNanos;
+        lastGcMillis = gcMillis();
+        lastScenarios = scenarios.getAsLong();
+        lastErrors = errors.getAsLong();
+
+        timer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "soak-sampler");
+            t.setDaemon(true);
+            return t;
+        });
+        timer.scheduleAtFixedRate(this::sample, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    // Takes a last sample and stops sampling
+    public synchronized void stop() {
+        if (timer == null) {
+            return;
+        }
+        timer.shutdownNow();
+        timer = null;
+        sample();
+        for (GarbageCollectorMXBean collector : collectors) {
+            if (collector instanceof NotificationEmitter) {
+                try {
+                    ((NotificationEmitter) collector).removeNotificationListener(gcListener);
+                } catch (Exception e) {
+                    // already gone
+                }
+            }
+        }
+    }
+
+    public synchronized List<ResourceSample> samples() {
+        return new ArrayList<>(samples);
+    }
+
+    private synchronized void sample() {
+        long now = System.nanoTime();
+        double seconds = Math.max(1e-9, (now - lastNanos) / 1e9);
+        double[] values = new double[Metric.values().length];
+
+        MemoryUsage heap = memory.getHeapMemoryUsage();
+        values[Metric.HEAP_USED.ordinal()] = heap.getUsed() / MB;
+        // Lowest after-GC heap this interval; the last one seen if no GC ran
+        long afterGc = minHeapAfterGc.getAndSet(Long.MAX_VALUE);
+        afterGc = afterGc == Long.MAX_VALUE ? heapAfterGc.get() : afterGc;
+        values[Metric.HEAP_AFTER_GC.ordinal()] = afterGc < 0 ? Double.NaN : afterGc / MB;
+        values[Metric.NON_HEAP.ordinal()] = memory.getNonHeapMemoryUsage().getUsed() / MB;
+
+        long gcMillis = gcMillis();
+        values[Metric.GC_PAUSE_MAX.ordinal()] = maxPauseMillis.getAndSet(0);
+        values[Metric.GC_TIME.ordinal()] = gcMillis - lastGcMillis;
+        lastGcMillis = gcMillis;
+
+        values[Metric.THREADS.ordinal()] = threads.getThreadCount();
+        values[Metric.OPEN_FILES.ordinal()] = os instanceof UnixOperatingSystemMXBean
+                ? ((UnixOperatingSystemMXBean) os).getOpenFileDescriptorCount() : Double.NaN;
+
+        PoolStats pool = HttpClientPool.stats();
+        values[Metric.POOL_LEASED.ordinal()] = pool.getLeased();
+        values[Metric.POOL_OPEN.ordinal()] = pool.getLeased() + pool.getAvailable();
+
+        long done = scenarios.getAsLong();
+        long failed = errors.getAsLong();
+        values[Metric.SCENARIOS.ordinal()] = (done - lastScenarios) / seconds;
+        values[Metric.ERRORS.ordinal()] = (failed - lastErrors) / seconds;
+        lastScenarios = done;
+        lastErrors = failed;
+        lastNanos = now;
+
+        samples.add(new ResourceSample(TimeUnit.NANOSECONDS.toMillis(now - startNanos), values));
+    }
+
+    private void onGc(GarbageCollectionNotificationInfo info) {
+        maxPauseMillis.accumulateAndGet(info.getGcInfo().getDuration(), Math::max);
+        long used = 0;
+        for (Map.Entry<String, MemoryUsage> pool : info.getGcInfo().getMemoryUsageAfterGc().entrySet()) {
+            if (heapPools.contains(pool.getKey())) {
+                used += pool.getValue().getUsed();
+            }
+        }
+        heapAfterGc.set(used);
+        minHeapAfterGc.accumulateAndGet(used, Math::min);
+    }
+
+    private long gcMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            total += Math.max(0, collector.getCollectionTime());
+        }
+        return total;
+    }
+}
@@ -0,0 +1,183 @@
+package com.rest_assured.soak;
+
+import com.project.base.BaseClass;
+import com.rest_assured.common.ApiUtils;
+import com.rest_assured.common.BookFixtures;
+import com.rest_assured.common.ConfigManager;
+import com.rest_assured.common.JsonStreams;
+import com.rest_assured.common.Payloads;
+import com.rest_assured.common.RandomDataGenerator;
+import com.rest_assured.common.RateLimiter;
+import com.rest_assured.common.TokenManager;
+import com.rest_assured.model.Book;
+import com.rest_assured.perf.LatencyRecorder;
+import com.rest_assured.perf.PerfRun;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Soak (endurance) run: loops the book CRUD scenario on soak.workers threads for
+ * soak.durationSec while ResourceSampler watches the JVM, then reports how each
+ * resource trended and flags sustained growth (TrendAnalysis).
+ *
+ *   mvn -q compile exec:java -Dexec.mainClass=com.rest_assured.soak.SoakRunner \
+ *       -Dsoak.durationSec=3600 -Dsoak.workers=8
+ *
+ * Writes target/soak-samples.csv (every sample, for plotting) and
+ * target/soak-report.txt. Exits with 1 when a metric is flagged and
+ * soak.failOnTrend=true.
+ */
+public class SoakRunner {
+
+    private static final ConfigManager CONFIG = ConfigManager.get();
+    // Only the first few failures are printed in full; the rest are counted
+    private static final int LOGGED_ERRORS = 10;
+
+    private final LongAdder scenarios = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final AtomicLong logged = new AtomicLong();
+    private final int listEvery = CONFIG.getInt("soak.listEvery", 10);
+
+    public static void main(String[] args) {
+        new BaseClass().setup();
+        int status = new SoakRunner().run();
+        BookFixtures.cleanup();
+        System.exit(status);
+    }
+
+    int run() {
+        Duration duration = CONFIG.getSeconds("soak.durationSec", 1800L);
+        int workers = CONFIG.getInt("soak.workers", 4);
+        ResourceSampler sampler = new ResourceSampler(CONFIG.getSeconds("soak.sampleSec", 10L),
+                scenarios::sum, errors::sum);
+
+        System.out.println("Soak: " + workers + " worker(s) for " + duration.toSeconds() + "s against " + ApiUtils.baseUri());
+        long deadline = System.nanoTime() + duration.toNanos();
+        sampler.start();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < workers; i++) {
+            Thread worker = new Thread(() -> loop(deadline), "soak-worker-" + i);
+            worker.start();
+            threads.add(worker);
+        }
+        for (Thread worker : threads) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        sampler.stop();
+
+        List<ResourceSample> samples = sampler.samples();
+        TrendAnalysis analysis = TrendAnalysis.of(samples,
+                CONFIG.getSeconds("soak.warmupSec", 120L).toMillis(),
+                CONFIG.getDouble("soak.trendZ", 2.33),
+                CONFIG.getDouble("soak.minChange", 0.1));
+
+        String report = String.format("Scenarios: %d, failed: %d%n", scenarios.sum(), errors.sum()) + analysis.report();
+        System.out.println("====== Soak Resource Trends ======");
+        System.out.print(report);
+        System.out.println("====== Service Latency ======");
+        System.out.print(LatencyRecorder.report());
+        System.out.print(RateLimiter.report());
+        write(samples, report);
+        PerfRun.finish("soak", PerfRun.suiteSamples(System.currentTimeMillis()));
+
+        return !analysis.flagged().isEmpty() && CONFIG.getBoolean("soak.failOnTrend", false) ? 1 : 0;
+    }
+
+    private void loop(long deadline) {
+        long iteration = 0;
+        // One book per worker, posted again pass after pass, so a long soak does not use up data.idBlockSize
+        Book book = null;
+        while (System.nanoTime() < deadline) {
+            if (book == null || book.getId() == null) {
+                book = RandomDataGenerator.generateRandomBook();
+            }
+            try {
+                scenario(iteration++, book);
+                scenarios.increment();
+            } catch (RuntimeException e) {
+                errors.increment();
+                if (logged.incrementAndGet() <= LOGGED_ERRORS) {
+                    System.out.println("[SOAK] scenario failed: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Create, read, update, read and delete one book; every listEvery-th pass also
+     * streams the catalog. Once the book is gone its ID is free for the next pass;
+     * if the delete fails, the ID is left for the final cleanup and cleared on book.
+     */
+    private void scenario(long iteration, Book book) {
+        String token = TokenManager.getToken();
+        String path = "/books/" + book.getId();
+
+        try {
+            expect(ApiUtils.postRequest("/books/", Payloads.toJson(book), token), "POST /books");
+            expect(ApiUtils.getRequest(path, token), "GET " + path);
+            book.setName(RandomDataGenerator.generateRandomName());
+            expect(ApiUtils.putRequest(path, Payloads.toJson(book), token), "PUT " + path);
+            expect(ApiUtils.getRequest(path, token), "GET " + path);
+            if (listEvery > 0 && iteration % listEvery == 0) {
+                JsonStreams.count(expect(ApiUtils.getStreamingRequest("/books", token), "GET /books"));
+            }
+        } finally {
+            // 404: the POST never created it, so the ID is free as well
+            int deleted = ApiUtils.deleteRequest(path, token).getStatusCode();
+            if (deleted != 200 && deleted != 404) {
+                // Only failures are registered, so the registry stays small
+                BookFixtures.register(book.getId());
+                book.setId(null);
+            }
+        }
+    }
+
+    private static Response expect(Response response, String call) {
+        if (response.getStatusCode() != 200) {
+            throw new RuntimeException(call + " answered " + response.getStatusCode());
+        }
+        return response;
+    }
+
+    private static void write(List<ResourceSample> samples, String report) {
+        Path dir = Path.of("target");
+        try {
+            Files.createDirectories(dir);
+            Files.write(dir.resolve("soak-report.txt"), report.getBytes(StandardCharsets.UTF_8));
+            try (PrintWriter csv = new PrintWriter(Files.newBufferedWriter(dir.resolve("soak-samples.csv")))) {
+                StringBuilder header = new StringBuilder("elapsed_s");
+                for (ResourceSample.Metric metric : ResourceSample.Metric.values()) {
+                    header.append(',').append(metric.name().toLowerCase(Locale.ROOT));
+                }
+                csv.println(header);
+                for (ResourceSample sample : samples) {
+                    StringBuilder row = new StringBuilder(String.format(Locale.ROOT, "%.1f", sample.getElapsedMillis() / 1000.0));
+                    for (ResourceSample.Metric metric : ResourceSample.Metric.values()) {
+                        double value = sample.get(metric);
+                        row.append(',').append(Double.isNaN(value) ? "" : String.format(Locale.ROOT, "%.2f", value));
+                    }
+                    csv.println(row);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write soak report", e);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.rest_assured.soak;
+
+import com.rest_assured.soak.ResourceSample.Metric;
+import com.rest_assured.soak.ResourceSample.Trend;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Looks for sustained trends in a soak run's samples, one metric at a time.
+ *
+ * A metric is flagged when its samples after warm-up trend monotonically
+ * (Mann-Kendall test, one-sided, z above `minZ`) in the direction that means
+ * trouble, and the trend moved it by more than `minChange` of its starting
+ * level over the run (Theil-Sen slope, so a few spikes move neither). A heap
+ * that grows 2 MB per hour from 300 MB is significant but not worth failing on;
+ * a thread count that climbs from 40 to 60 is.
+ */
+public class TrendAnalysis {
+
+    // Mann-Kendall and Theil-Sen are O(n^2); longer runs are thinned to this many points
+    private static final int MAX_POINTS = 1_000;
+    private static final int TIMELINE_BUCKETS = 8;
+
+    private final List<Result> results = new ArrayList<>();
+    private final long warmupMillis;
+    private final int analysed;
+
+    private TrendAnalysis(long warmupMillis, int analysed) {
+        this.warmupMillis = warmupMillis;
+        this.analysed = analysed;
+    }
+
+    /**
+     * @param samples      every sample of the run, oldest first
+     * @param warmupMillis samples taken earlier than this are ignored
+     */
+    public static TrendAnalysis of(List<ResourceSample> samples, long warmupMillis, double minZ, double minChange) {
+        List<ResourceSample> steady = new ArrayList<>();
+        for (ResourceSample sample : samples) {
+            if (sample.getElapsedMillis() >= warmupMillis) {
+                steady.add(sample);
+            }
+        }
+        int step = Math.max(1, (steady.size() + MAX_POINTS - 1) / MAX_POINTS);
+
+        TrendAnalysis analysis = new TrendAnalysis(warmupMillis, steady.size());
+        for (Metric metric : Metric.values()) {
+            List<double[]> points = new ArrayList<>();
+            for (int i = 0; i < steady.size(); i += step) {
+                double value = steady.get(i).get(metric);
+                if (!Double.isNaN(value)) {
+                    points.add(new double[]{steady.get(i).getElapsedMillis() / 3_600_000.0, value});
+                }
+            }
+            analysis.results.add(analyse(metric, points, minZ, minChange));
+        }
+        return analysis;
+    }
+
+    private static Result analyse(Metric metric, List<double[]> points, double minZ, double minChange) {
+        int n = points.size();
+        if (n < 4) {
+            return new Result(metric, new double[0], Double.NaN, Double.NaN, Double.NaN, Double.NaN, false);
+        }
+        double[] values = new double[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = points.get(i)[1];
+        }
+
+        // Mann-Kendall S: concordant minus discordant pairs, variance corrected for ties
+        long s = 0;
+        double[] slopes = new double[n * (n - 1) / 2];
+        int k = 0;
+        for (int i = 0; i < n - 1; i++) {
+            for (int j = i + 1; j < n; j++) {
+                s += Long.signum(Double.compare(values[j], values[i]));
+                double dt = points.get(j)[0] - points.get(i)[0];
+                if (dt > 0) {
+                    slopes[k++] = (values[j] - values[i]) / dt;
+                }
+            }
+        }
+        double variance = (n * (n - 1.0) * (2 * n + 5) - tieTerm(values)) / 18.0;
+        double z = variance <= 0 ? 0 : s > 0 ? (s - 1) / Math.sqrt(variance) : s < 0 ? (s + 1) / Math.sqrt(variance) : 0;
+
+        // Theil-Sen slope per hour, and how far it moved the metric over the analysed span
+        double slope = median(Arrays.copyOf(slopes, k));
+        double span = points.get(n - 1)[0] - points.get(0)[0];
+        double start = median(Arrays.copyOf(values, Math.max(1, n / 10)));
+        double change = slope * span / Math.max(Math.abs(start), 1e-9);
+
+        boolean flagged = metric.getTrend() == Trend.GROWTH && z > minZ && change > minChange
+                || metric.getTrend() == Trend.DECLINE && z < -minZ && change < -minChange;
+        return new Result(metric, timeline(values), start, slope, z, change, flagged);
+    }
+
+    // Sum of t(t-1)(2t+5) over groups of t equal values
+    private static double tieTerm(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        double term = 0;
+        int i = 0;
+        while (i < sorted.length) {
+            int j = i;
+            while (j + 1 < sorted.length && sorted[j + 1] == sorted[i]) {
+                j++;
+            }
+            double t = j - i + 1;
+            term += t * (t - 1) * (2 * t + 5);
+            i = j + 1;
+        }
+        return term;
+    }
+
+    // Median of each of TIMELINE_BUCKETS equal slices of the run
+    private static double[] timeline(double[] values) {
+        int buckets = Math.min(TIMELINE_BUCKETS, values.length);
+        double[] timeline = new double[buckets];
+        for (int b = 0; b < buckets; b++) {
+            int from = b * values.length / buckets;
+            int to = (b + 1) * values.length / buckets;
+            timeline[b] = median(Arrays.copyOfRange(values, from, to));
+        }
+        return timeline;
+    }
+
+    private static double median(double[] values) {
+        if (values.length == 0) {
+            return Double.NaN;
+        }
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+
+    public List<Result> getResults() {
+        return results;
+    }
+
+    public List<Result> flagged() {
+        List<Result> flagged = new ArrayList<>();
+        for (Result result : results) {
+            if (result.isFlagged()) {
+                flagged.add(result);
+            }
+        }
+        return flagged;
+    }
+
+    public String report() {
+        StringBuilder sb = new StringBuilder();
+        List<Result> flagged = flagged();
+        sb.append(flagged.isEmpty() ? "No sustained resource growth" : flagged.size() + " metric(s) trending the wrong way")
+                .append(String.format(" (%d samples after %ds warm-up)%n", analysed, warmupMillis / 1000));
+        sb.append(String.format("%-20s %10s %12s %8s %8s  %-7s %s%n",
+                "metric", "start", "slope/hour", "change", "MK z", "verdict", "timeline (medians of equal slices)"));
+        for (Result r : results) {
+            StringBuilder timeline = new StringBuilder();
+            for (double value : r.getTimeline()) {
+                timeline.append(timeline.length() == 0 ? "" : " ").append(String.format("%.1f", value));
+            }
+            sb.append(String.format("%-20s %10.2f %12.2f %7.1f%% %8.2f  %-7s %s%n",
+                    r.getMetric().getLabel(), r.getStart(), r.getSlopePerHour(), r.getChange() * 100, r.getZ(),
+                    r.isFlagged() ? "TREND" : Double.isNaN(r.getZ()) ? "-" : "stable", timeline));
+        }
+        return sb.toString();
+    }
+
+    public static class Result {
+        private final Metric metric;
+        private final double[] timeline;
+        private final double start;
+        private final double slopePerHour;
+        private final double z;
+        private final double change;
+        private final boolean flagged;
+
+        Result(Metric metric, double[] timeline, double start, double slopePerHour, double z, double change,
+               boolean flagged) {
+            this.metric = metric;
+            this.timeline = timeline;
+            this.start = start;
+            this.slopePerHour = slopePerHour;
+            this.z = z;
+            this.change = change;
+            this.flagged = flagged;
+        }
+
+        public Metric getMetric() {
+            return metric;
+        }
+
+        public double[] getTimeline() {
+            return timeline.clone();
+        }
+
+        // Median of the first tenth of the analysed samples
+        public double getStart() {
+            return start;
+        }
+
+        public double getSlopePerHour() {
+            return slopePerHour;
+        }
+
+        // Mann-Kendall statistic; positive for an upward trend, NaN with too few samples
+        public double getZ() {
+            return z;
+        }
+
+        // Theil-Sen slope over the run relative to the start, e.g. 0.3 for +30%
+        public double getChange() {
+            return change;
+        }
+
+        public boolean isFlagged() {
+            return flagged;
+        }
+    }
+}
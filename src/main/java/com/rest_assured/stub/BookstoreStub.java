@@ -0,0 +1,525 @@
+package com.rest_assured.stub;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.rest_assured.common.ConfigManager;
+import com.rest_assured.common.Payloads;
+import com.rest_assured.constants.InputConstants;
+import com.rest_assured.model.Book;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-JVM stand-in for the bookstore service (bookstore/main.py and
+ * bookmgmt.py), started in a few milliseconds on a JDK HttpServer.
+ *
+ * - Same routes, status codes and bodies: /health, /signup, /login and the
+ *   JWT-protected /books CRUD. Tokens are HS256 JWTs signed with the service's
+ *   SECRET_KEY and expire after stub.tokenTtlSec; a missing header gives 403
+ *   "Not authenticated", a bad or expired token 403 "Invalid token or expired token".
+ * - Users and books live in memory. Passwords are compared as-is, not bcrypt-hashed.
+ * - A book missing a required field or with a field of the wrong type is
+ *   rejected with 500, as the service fails on its NOT NULL constraint or when
+ *   reading the row back; a non-numeric path ID gives 422. A blank or missing
+ *   email or password on /signup or /login gives 422.
+ * - stub.latencyMs (+ up to stub.latencyJitterMs) delays every answer, and
+ *   stub.errorRate of requests fail with stub.errorStatus instead.
+ *
+ * BaseClass starts the shared instance when stub.enabled=true, so the suite
+ * runs with no external process.
+ */
+public final class BookstoreStub implements AutoCloseable {
+
+    private static final String DEFAULT_SECRET = "4e9350f4-76c9-4c2d-9eaf-dd68ed7ac31a";
+    private static final byte[] JWT_HEADER = base64("{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+
+    private static final ReentrantLock SHARED_LOCK = new ReentrantLock();
+    private static volatile BookstoreStub shared;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final byte[] secret;
+    private final Duration tokenTtl;
+    private final long latencyMs;
+    private final long latencyJitterMs;
+    private final double errorRate;
+    private final int errorStatus;
+
+    private final Map<String, String> users = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Integer, byte[]> books = new ConcurrentSkipListMap<>();
+    // Serializes writes to books so ids, updates and deletes stay consistent
+    private final ReentrantLock booksLock = new ReentrantLock();
+
+    public BookstoreStub(int port, String secret, Duration tokenTtl, long latencyMs, long latencyJitterMs,
+                         double errorRate, int errorStatus) {
+        this.secret = secret.getBytes(StandardCharsets.UTF_8);
+        this.tokenTtl = tokenTtl;
+        this.latencyMs = latencyMs;
+        this.latencyJitterMs = latencyJitterMs;
+        this.errorRate = errorRate;
+        this.errorStatus = errorStatus;
+
+        // Without it small answers wait on Nagle + delayed ACK (~40ms each on loopback)
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        try {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 1024);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to start stub bookstore on port " + port + ": " + e.getMessage());
+        }
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    /**
+     * A stub configured from stub.* keys (port 0 picks a free port).
+     */
+    public static BookstoreStub start() {
+        ConfigManager config = ConfigManager.get();
+        return new BookstoreStub(
+                config.getInt("stub.port", 0),
+                config.getString("stub.secret", DEFAULT_SECRET),
+                config.getSeconds("stub.tokenTtlSec", 1800L),
+                config.getLong("stub.latencyMs", 0L),
+                config.getLong("stub.latencyJitterMs", 0L),
+                config.getDouble("stub.errorRate", 0.0),
+                config.getInt("stub.errorStatus", 500));
+    }
+
+    /**
+     * The JVM-wide stub, started on first use with the default test user
+     * (InputConstants.USERNAME) signed up and stub.seedBooks books (IDs 1..n)
+     * in the catalog. It runs until the JVM exits.
+     */
+    public static BookstoreStub shared() {
+        if (shared == null) {
+            SHARED_LOCK.lock();
+            try {
+                if (shared == null) {
+                    BookstoreStub stub = start();
+                    stub.addUser(InputConstants.USERNAME, InputConstants.PASSWORD);
+                    // Like the service's test.db, the catalog is not empty to begin with
+                    int seedBooks = ConfigManager.get().getInt("stub.seedBooks", 5);
+                    for (int id = 1; id <= seedBooks; id++) {
+                        stub.addBook(new Book(id, "Book_" + id, "Author_" + id, 2000 + id, "This is a summary of book " + id));
+                    }
+                    System.out.println("Started stub bookstore at " + stub.baseUrl());
+                    shared = stub;
+                }
+            } finally {
+                SHARED_LOCK.unlock();
+            }
+        }
+        return shared;
+    }
+
+    public static void main(String[] args) {
+        shared();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public void addUser(String email, String password) {
+        users.put(email, password);
+    }
+
+    // Stores a book as if it had been POSTed
+    public void addBook(Book book) {
+        booksLock.lock();
+        try {
+            books.put(book.getId(), Payloads.toJson(book));
+        } finally {
+            booksLock.unlock();
+        }
+    }
+
+    public int bookCount() {
+        return books.size();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            byte[] body;
+            try (InputStream in = exchange.getRequestBody()) {
+                body = in.readAllBytes();
+            }
+            if (latencyMs > 0 || latencyJitterMs > 0) {
+                sleep(latencyMs + (latencyJitterMs > 0 ? ThreadLocalRandom.current().nextLong(latencyJitterMs + 1) : 0));
+            }
+            if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                sendText(exchange, errorStatus, "Injected error");
+                return;
+            }
+            try {
+                route(exchange, exchange.getRequestMethod(), exchange.getRequestURI().getPath(), body);
+            } catch (RuntimeException e) {
+                sendText(exchange, 500, "Internal Server Error");
+            }
+        }
+    }
+
+    private void route(HttpExchange exchange, String method, String path, byte[] body) throws IOException {
+        switch (path) {
+            case "/health":
+                if (method.equals("GET")) {
+                    send(exchange, 200, "{\"status\":\"up\"}");
+                } else {
+                    methodNotAllowed(exchange);
+                }
+                return;
+            case "/signup":
+                if (method.equals("POST")) {
+                    signup(exchange, body);
+                } else {
+                    methodNotAllowed(exchange);
+                }
+                return;
+            case "/login":
+                if (method.equals("POST")) {
+                    login(exchange, body);
+                } else {
+                    methodNotAllowed(exchange);
+                }
+                return;
+            case "/books":
+                // FastAPI redirects to the slash form
+                exchange.getResponseHeaders().set("Location", "/books/");
+                exchange.sendResponseHeaders(307, -1);
+                return;
+            default:
+                if (path.startsWith("/books/")) {
+                    books(exchange, method, path.substring("/books/".length()), body);
+                } else {
+                    send(exchange, 404, "{\"detail\":\"Not Found\"}");
+                }
+        }
+    }
+
+    private void signup(HttpExchange exchange, byte[] body) throws IOException {
+        JsonNode credentials = parse(exchange, body);
+        if (credentials == null) {
+            return;
+        }
+        String email = text(credentials, "email");
+        String password = text(credentials, "password");
+        if (email == null || email.isEmpty() || password == null || password.isEmpty()) {
+            missingCredentials(exchange);
+        } else if (users.putIfAbsent(email, password) != null) {
+            send(exchange, 400, "{\"detail\":\"Email already registered\"}");
+        } else {
+            send(exchange, 200, "{\"message\":\"User created successfully\"}");
+        }
+    }
+
+    private void login(HttpExchange exchange, byte[] body) throws IOException {
+        JsonNode credentials = parse(exchange, body);
+        if (credentials == null) {
+            return;
+        }
+        String email = text(credentials, "email");
+        if (email == null || email.isEmpty() || text(credentials, "password") == null) {
+            missingCredentials(exchange);
+            return;
+        }
+        String password = users.get(email);
+        if (password == null || !password.equals(text(credentials, "password"))) {
+            send(exchange, 400, "{\"detail\":\"Incorrect email or password\"}");
+            return;
+        }
+        send(exchange, 200, "{\"access_token\":\"" + token(email) + "\",\"token_type\":\"bearer\"}");
+    }
+
+    private void books(HttpExchange exchange, String method, String idPart, byte[] body) throws IOException {
+        // Auth runs before path and body validation, as with the service's JWTBearer dependency
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            send(exchange, 403, "{\"detail\":\"Not authenticated\"}");
+            return;
+        }
+        if (!verify(authorization.substring("Bearer ".length()))) {
+            send(exchange, 403, "{\"detail\":\"Invalid token or expired token\"}");
+            return;
+        }
+
+        if (idPart.isEmpty()) {
+            if (method.equals("GET")) {
+                send(exchange, 200, list());
+            } else if (method.equals("POST")) {
+                create(exchange, body);
+            } else {
+                methodNotAllowed(exchange);
+            }
+            return;
+        }
+
+        int id;
+        try {
+            id = Integer.parseInt(idPart);
+        } catch (NumberFormatException e) {
+            send(exchange, 422, "{\"detail\":[{\"type\":\"int_parsing\",\"loc\":[\"path\",\"book_id\"],"
+                    + "\"msg\":\"Input should be a valid integer, unable to parse string as an integer\",\"input\":"
+                    + Payloads.mapper().writeValueAsString(idPart) + "}]}");
+            return;
+        }
+        switch (method) {
+            case "GET": {
+                byte[] book = books.get(id);
+                if (book == null) {
+                    notFound(exchange);
+                } else {
+                    send(exchange, 200, book);
+                }
+                return;
+            }
+            case "PUT":
+                update(exchange, id, body);
+                return;
+            case "DELETE": {
+                byte[] removed;
+                booksLock.lock();
+                try {
+                    removed = books.remove(id);
+                } finally {
+                    booksLock.unlock();
+                }
+                if (removed == null) {
+                    notFound(exchange);
+                } else {
+                    send(exchange, 200, "{\"message\":\"Book deleted successfully\"}");
+                }
+                return;
+            }
+            default:
+                methodNotAllowed(exchange);
+        }
+    }
+
+    private void create(HttpExchange exchange, byte[] body) throws IOException {
+        JsonNode json = parse(exchange, body);
+        if (json == null) {
+            return;
+        }
+        Book book = toBook(exchange, json);
+        if (book == null) {
+            return;
+        }
+        if (book.getName() == null || book.getAuthor() == null || book.getPublishedYear() == null
+                || book.getBookSummary() == null) {
+            sendText(exchange, 500, "Internal Server Error");
+            return;
+        }
+        byte[] created;
+        booksLock.lock();
+        try {
+            if (book.getId() == null) {
+                book.setId(books.isEmpty() ? 1 : books.lastKey() + 1);
+            } else if (books.containsKey(book.getId())) {
+                // Primary key clash
+                sendText(exchange, 500, "Internal Server Error");
+                return;
+            }
+            addBook(book);
+            created = books.get(book.getId());
+        } finally {
+            booksLock.unlock();
+        }
+        send(exchange, 200, created);
+    }
+
+    private void update(HttpExchange exchange, int id, byte[] body) throws IOException {
+        JsonNode json = parse(exchange, body);
+        if (json == null) {
+            return;
+        }
+        byte[] updated;
+        booksLock.lock();
+        try {
+            byte[] current = books.get(id);
+            if (current == null) {
+                notFound(exchange);
+                return;
+            }
+            // Only the fields sent are changed (exclude_unset); an explicit null breaks NOT NULL
+            ObjectNode merged = (ObjectNode) Payloads.mapper().readTree(current);
+            merged.setAll((ObjectNode) json);
+            merged.put("id", id);
+            Book book = toBook(exchange, merged);
+            if (book == null) {
+                return;
+            }
+            if (book.getName() == null || book.getAuthor() == null || book.getPublishedYear() == null
+                    || book.getBookSummary() == null) {
+                sendText(exchange, 500, "Internal Server Error");
+                return;
+            }
+            addBook(book);
+            updated = books.get(id);
+        } finally {
+            booksLock.unlock();
+        }
+        send(exchange, 200, updated);
+    }
+
+    private byte[] list() {
+        int size = 2;
+        for (byte[] book : books.values()) {
+            size += book.length + 1;
+        }
+        byte[] json = new byte[size];
+        int pos = 0;
+        json[pos++] = '[';
+        for (byte[] book : books.values()) {
+            if (pos + book.length + 2 > json.length) {
+                // Books were added while copying; the next list picks them up
+                break;
+            }
+            if (pos > 1) {
+                json[pos++] = ',';
+            }
+            System.arraycopy(book, 0, json, pos, book.length);
+            pos += book.length;
+        }
+        json[pos++] = ']';
+        return pos == json.length ? json : Arrays.copyOf(json, pos);
+    }
+
+    // Parsed JSON object, or null after answering 422 like FastAPI's body validation
+    private JsonNode parse(HttpExchange exchange, byte[] body) throws IOException {
+        JsonNode json;
+        try {
+            json = body.length == 0 ? null : Payloads.mapper().readTree(body);
+        } catch (IOException e) {
+            json = null;
+        }
+        if (json == null || !json.isObject()) {
+            send(exchange, 422, "{\"detail\":[{\"type\":\"missing\",\"loc\":[\"body\"],\"msg\":\"Field required\",\"input\":null}]}");
+            return null;
+        }
+        return json;
+    }
+
+    // The service's table models are not validated on input; a wrong type only fails when the row is read back
+    private Book toBook(HttpExchange exchange, JsonNode json) throws IOException {
+        try {
+            return Payloads.mapper().treeToValue(json, Book.class);
+        } catch (JsonProcessingException e) {
+            sendText(exchange, 500, "Internal Server Error");
+            return null;
+        }
+    }
+
+    private String token(String email) {
+        long exp = System.currentTimeMillis() / 1000 + tokenTtl.getSeconds();
+        String claims = "{\"sub\":" + Payloads.mapper().valueToTree(email) + ",\"exp\":" + exp + "}";
+        String unsigned = new String(JWT_HEADER, StandardCharsets.US_ASCII) + "."
+                + new String(base64(claims.getBytes(StandardCharsets.UTF_8)), StandardCharsets.US_ASCII);
+        return unsigned + "." + new String(base64(sign(unsigned)), StandardCharsets.US_ASCII);
+    }
+
+    private boolean verify(String jwt) {
+        String[] parts = jwt.split("\\.");
+        if (parts.length != 3) {
+            return false;
+        }
+        try {
+            byte[] expected = sign(parts[0] + "." + parts[1]);
+            if (!MessageDigest.isEqual(expected, Base64.getUrlDecoder().decode(parts[2]))) {
+                return false;
+            }
+            JsonNode claims = Payloads.mapper().readTree(Base64.getUrlDecoder().decode(parts[1]));
+            return claims.path("exp").asLong() > System.currentTimeMillis() / 1000;
+        } catch (IllegalArgumentException | IOException e) {
+            return false;
+        }
+    }
+
+    private byte[] sign(String content) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret, "HmacSHA256"));
+            return mac.doFinal(content.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("Failed to sign token: " + e.getMessage());
+        }
+    }
+
+    private static byte[] base64(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encode(bytes);
+    }
+
+    private static String text(JsonNode json, String field) {
+        JsonNode value = json.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private static void missingCredentials(HttpExchange exchange) throws IOException {
+        send(exchange, 422, "{\"detail\":[{\"type\":\"missing\",\"loc\":[\"body\",\"email\"],\"msg\":\"Field required\"}]}");
+    }
+
+    private static void notFound(HttpExchange exchange) throws IOException {
+        send(exchange, 404, "{\"detail\":\"Book not found\"}");
+    }
+
+    private static void methodNotAllowed(HttpExchange exchange) throws IOException {
+        send(exchange, 405, "{\"detail\":\"Method Not Allowed\"}");
+    }
+
+    private static void send(HttpExchange exchange, int status, String json) throws IOException {
+        send(exchange, status, json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] json) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, json.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(json);
+        }
+    }
+
+    private static void sendText(HttpExchange exchange, int status, String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
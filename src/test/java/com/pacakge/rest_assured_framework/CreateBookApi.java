@@ -2,8 +2,13 @@ package com.pacakge.rest_assured_framework;
 
 import com.project.base.BaseClass;
 import com.rest_assured.common.ApiUtils;
+import com.rest_assured.common.BookFixtures;
+import com.rest_assured.common.JsonResponse;
+import com.rest_assured.common.Payloads;
 import com.rest_assured.common.RandomDataGenerator;
 import com.rest_assured.common.TokenManager;
+import com.rest_assured.model.Book;
+import com.rest_assured.perf.Sla;
 import io.qameta.allure.*;
 import io.restassured.response.Response;
 import org.json.JSONObject;
@@ -16,22 +21,20 @@ public class CreateBookApi extends BaseClass {
     @Description("Verify that a book can be created with valid data")
     @Severity(SeverityLevel.CRITICAL)
     @Story("POST /books - Create a new book entry")
+    @Sla(endpoint = "POST /books/", maxMs = 2000)
     public void shouldCreateBookSuccessfully() {
         String token = TokenManager.getToken();
 
-        JSONObject payload = new JSONObject();
-        payload.put("name", RandomDataGenerator.generateRandomName());
-        payload.put("author", RandomDataGenerator.generateRandomAuthor());
-        payload.put("published_year", RandomDataGenerator.generateRandomPublishedYear());
-        payload.put("book_summary", RandomDataGenerator.generateRandomSummary());
-        int id = RandomDataGenerator.generateRandomId();
-        payload.put("id", id);
+        Book book = RandomDataGenerator.generateRandomBook();
+        Integer id = book.getId();
 
-        Response response = ApiUtils.postRequest("/books/", payload.toString(), token);
+        Response response = ApiUtils.postRequest("/books/", Payloads.toJson(book), token);
 
         Assert.assertEquals(response.getStatusCode(), 200, "Expected 200 OK");
+        BookFixtures.register(id);
 
-        int returnedId = response.jsonPath().getInt("id");
+        // Null when the response has no id, which fails the assertion instead of throwing
+        Integer returnedId = JsonResponse.of(response).getInt("id");
         Assert.assertEquals(returnedId, id, "Returned ID should match the one sent");
     }
 
@@ -87,6 +90,9 @@ public class CreateBookApi extends BaseClass {
             "Expected 400 Bad Request due to invalid 'published_year', but got " + statusCode +
             (backendIssue ? ". Backend validation may be missing or buggy." : ""));
 
+        if (statusCode == 200) {
+            BookFixtures.register(payload.getInt("id"));
+        }
         if (backendIssue) {
             System.out.println("[WARNING] Backend accepted invalid 'published_year' or returned 500 error.");
         }
@@ -111,6 +117,7 @@ public class CreateBookApi extends BaseClass {
 
         Response response1 = ApiUtils.postRequest("/books/", payload1.toString(), token);
         Assert.assertEquals(response1.getStatusCode(), 200, "First book creation should succeed");
+        BookFixtures.register(duplicateId);
 
         // Second creation with same ID should fail
         JSONObject payload2 = new JSONObject(payload1.toString());
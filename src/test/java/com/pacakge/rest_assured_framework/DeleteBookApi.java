@@ -2,11 +2,11 @@ package com.pacakge.rest_assured_framework;
 
 import com.project.base.BaseClass;
 import com.rest_assured.common.ApiUtils;
+import com.rest_assured.common.BookFixtures;
 import com.rest_assured.common.RandomDataGenerator;
 import com.rest_assured.common.TokenManager;
 import io.qameta.allure.*;
 import io.restassured.response.Response;
-import org.json.JSONObject;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -19,20 +19,16 @@ public class DeleteBookApi extends BaseClass {
     public void shouldDeleteBookSuccessfully() {
         String token = TokenManager.getToken();
 
-        // Step 1: Create a book to ensure the ID exists
-        int bookId = RandomDataGenerator.generateRandomId();
-        JSONObject payload = new JSONObject();
-        payload.put("name", RandomDataGenerator.generateRandomName());
-        payload.put("author", RandomDataGenerator.generateRandomAuthor());
-        payload.put("published_year", RandomDataGenerator.generateRandomPublishedYear());
-        payload.put("book_summary", RandomDataGenerator.generateRandomSummary());
-        payload.put("id", bookId);
-
-        Response createResponse = ApiUtils.postRequest("/books/", payload.toString(), token);
-        Assert.assertEquals(createResponse.getStatusCode(), 200, "Book creation failed before delete.");
+        // Step 1: Lease an existing book from the fixture pool
+        int bookId = BookFixtures.lease();
 
         // Step 2: Delete the book
         Response deleteResponse = ApiUtils.deleteRequest("/books/" + bookId, token);
+        if (deleteResponse.getStatusCode() == 200) {
+            BookFixtures.discard(bookId);
+        } else {
+            BookFixtures.release(bookId);
+        }
         Assert.assertEquals(deleteResponse.getStatusCode(), 200, "Book deletion failed.");
     }
 
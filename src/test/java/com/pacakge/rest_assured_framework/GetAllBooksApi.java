@@ -5,7 +5,13 @@ import org.testng.annotations.Test;
 
 import com.project.base.BaseClass;
 import com.rest_assured.common.ApiUtils;
+import com.rest_assured.common.GetAllBooksId;
+import com.rest_assured.common.JsonStreams;
 import com.rest_assured.common.TokenManager;
+import com.rest_assured.perf.Sla;
+import com.rest_assured.schema.JsonSchemas;
+import com.rest_assured.schema.ValidationResult;
+import com.fasterxml.jackson.databind.JsonNode;
 
 import io.qameta.allure.*;
 import io.restassured.response.Response;
@@ -21,12 +27,14 @@ public class GetAllBooksApi extends BaseClass {
     @Severity(SeverityLevel.CRITICAL)
     @Story("GET /books - Fetch all available books")
     public void shouldReturnAllBooksSuccessfully() {
-        Response response = ApiUtils.getRequest("/books", TokenManager.getToken());
+        Response response = ApiUtils.getStreamingRequest("/books", TokenManager.getToken());
 
-        logResponse(response);
+        System.out.println("Status Code: " + response.getStatusCode());
         Assert.assertEquals(response.getStatusCode(), 200, "Expected 200 OK");
 
-        int bookCount = response.jsonPath().getList("$").size();
+        // Counted while streaming; the catalog is never held in memory
+        long bookCount = JsonStreams.count(response);
+        System.out.println("Book Count: " + bookCount);
         Assert.assertTrue(bookCount > 0,
                 "Books list should not be empty. Actual count: " + bookCount);
     }
@@ -36,13 +44,16 @@ public class GetAllBooksApi extends BaseClass {
     @Severity(SeverityLevel.MINOR)
     @Story("GET /books - Validate book fields")
     public void shouldHaveExpectedFieldsInBooks() {
-        Response response = ApiUtils.getRequest("/books", TokenManager.getToken());
+        Response response = ApiUtils.getStreamingRequest("/books", TokenManager.getToken());
 
-        logResponse(response);
+        System.out.println("Status Code: " + response.getStatusCode());
         Assert.assertEquals(response.getStatusCode(), 200, "Expected 200 OK");
 
-        String firstTitle = response.jsonPath().getString("[0].name");
-        String firstAuthor = response.jsonPath().getString("[0].author");
+        JsonNode firstBook = JsonStreams.first(response);
+        Assert.assertNotNull(firstBook, "Books list should not be empty");
+
+        String firstTitle = firstBook.path("name").textValue();
+        String firstAuthor = firstBook.path("author").textValue();
 
         Assert.assertNotNull(firstTitle, "Book name should not be null");
         Assert.assertNotNull(firstAuthor, "Book author should not be null");
@@ -51,6 +62,21 @@ public class GetAllBooksApi extends BaseClass {
         System.out.println("First Book Author: " + firstAuthor);
     }
 
+    @Test(priority = 4, groups = {"positive"})
+    @Description("Verify every book returned by the API matches the Book schema")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("GET /books - Validate every book against the schema")
+    public void everyBookShouldMatchBookSchema() {
+        Response response = ApiUtils.getStreamingRequest("/books", TokenManager.getToken());
+        Assert.assertEquals(response.getStatusCode(), 200, "Expected 200 OK");
+
+        // Each element is validated as it is parsed, so the whole catalog is checked in constant memory
+        ValidationResult result = JsonSchemas.validateElements(response, "book-list");
+        System.out.println("Schema check: " + result);
+        Assert.assertTrue(result.getChecked() > 0, "Books list should not be empty");
+        Assert.assertTrue(result.isValid(), result.toString());
+    }
+
     /* -------------------- NEGATIVE TEST CASES -------------------- */
 
     @Test(priority = 2, groups = {"negative"})
@@ -69,6 +95,8 @@ public class GetAllBooksApi extends BaseClass {
     @Description("Verify that accessing the Get All Books API with an invalid token returns 403 Forbidden")
     @Severity(SeverityLevel.NORMAL)
     @Story("GET /books - Invalid token access")
+    // Budgeted on this buffered call: the streamed listing is timed to its headers only
+    @Sla(p95Ms = 1000, maxMs = 2000)
     public void shouldFailWithInvalidToken() {
         String invalidToken = "InvalidOrExpiredToken123";
         Response response = ApiUtils.getRequest("/books", invalidToken);
@@ -99,22 +127,16 @@ public class GetAllBooksApi extends BaseClass {
      * @return First book's ID
      */
     public static int getFirstBookId() {
-        Response response = ApiUtils.getRequest("/books", TokenManager.getToken());
-        if (response.getStatusCode() == 200) {
-            return response.jsonPath().getInt("[0].id");
-        }
-        throw new RuntimeException(
-                "Failed to fetch books for ID extraction. Status: " + response.getStatusCode()
-        );
+        return GetAllBooksId.getFirstBookId();
     }
 
     /**
-     * Logs the status code and formatted response body.
+     * Logs the status code. Bodies are logged by RequestLogger: in full when the
+     * call fails, sampled otherwise, so a large catalog is never pretty-printed here.
      *
      * @param response RestAssured Response object
      */
     private void logResponse(Response response) {
         System.out.println("Status Code: " + response.getStatusCode());
-        System.out.println("Response Body:\n" + response.getBody().asPrettyString());
     }
 }
@@ -2,8 +2,13 @@ package com.pacakge.rest_assured_framework;
 
 import com.project.base.BaseClass;
 import com.rest_assured.common.ApiUtils;
-import com.rest_assured.common.GetAllBooksId;
+import com.rest_assured.common.BookFixtures;
+import com.rest_assured.common.JsonResponse;
 import com.rest_assured.common.TokenManager;
+import com.rest_assured.model.Book;
+import com.rest_assured.perf.Sla;
+import com.rest_assured.schema.JsonSchemas;
+import com.rest_assured.schema.ValidationResult;
 import io.qameta.allure.*;
 import io.restassured.response.Response;
 import org.testng.Assert;
@@ -17,16 +22,25 @@ public class GetBookByIdApi extends BaseClass {
     @Description("Verify that a book can be fetched successfully by valid ID")
     @Severity(SeverityLevel.CRITICAL)
     @Story("GET /books/{id} - Positive")
+    @Sla(endpoint = "GET /books/{id}", maxMs = 1000)
     public void shouldGetBookByIdSuccessfully() {
         String token = TokenManager.getToken();
-        int bookId = GetAllBooksId.getFirstBookId();
+        int bookId = BookFixtures.lease();
 
-        Response response = ApiUtils.getRequest("/books/" + bookId, token);
+        try {
+            Response response = ApiUtils.getRequest("/books/" + bookId, token);
 
-        Assert.assertEquals(response.getStatusCode(), 200, "Expected HTTP 200");
-        Assert.assertEquals(response.jsonPath().getInt("id"), bookId, "Book ID mismatch");
-        Assert.assertNotNull(response.jsonPath().getString("name"), "Book name should not be null");
-        Assert.assertNotNull(response.jsonPath().getString("author"), "Book author should not be null");
+            Assert.assertEquals(response.getStatusCode(), 200, "Expected HTTP 200");
+            JsonResponse json = JsonResponse.of(response);
+            ValidationResult schema = JsonSchemas.validate("GET /books/{id}", json);
+            Assert.assertTrue(schema.isValid(), schema.toString());
+            Book book = json.as(Book.class);
+            Assert.assertEquals(book.getId().intValue(), bookId, "Book ID mismatch");
+            Assert.assertNotNull(book.getName(), "Book name should not be null");
+            Assert.assertNotNull(book.getAuthor(), "Book author should not be null");
+        } finally {
+            BookFixtures.release(bookId);
+        }
     }
 
     @Test(priority = 2, groups = {"negative"})
@@ -61,11 +75,15 @@ public class GetBookByIdApi extends BaseClass {
     @Severity(SeverityLevel.CRITICAL)
     @Story("GET /books/{id} - Missing token")
     public void shouldReturnUnauthorizedWhenTokenIsMissing() {
-        int bookId = GetAllBooksId.getFirstBookId();
+        int bookId = BookFixtures.lease();
 
-        Response response = ApiUtils.getRequest("/books/" + bookId, "");
+        try {
+            Response response = ApiUtils.getRequest("/books/" + bookId, "");
 
-        Assert.assertEquals(response.getStatusCode(), 401, "Expected HTTP 401");
-        Assert.assertTrue(response.asString().toLowerCase().contains("unauthorized"), "Should indicate 'unauthorized'");
+            Assert.assertEquals(response.getStatusCode(), 401, "Expected HTTP 401");
+            Assert.assertTrue(response.asString().toLowerCase().contains("unauthorized"), "Should indicate 'unauthorized'");
+        } finally {
+            BookFixtures.release(bookId);
+        }
     }
 }
@@ -1,12 +1,14 @@
 package com.pacakge.rest_assured_framework;
 
 import io.qameta.allure.*;
-import io.restassured.RestAssured;
 import io.restassured.response.Response;
 import org.testng.Assert;
 import org.testng.annotations.Listeners;
 import org.testng.annotations.Test;
 import com.project.base.BaseClass;
+import com.rest_assured.common.ApiUtils;
+import com.rest_assured.common.JsonResponse;
+import com.rest_assured.perf.Sla;
 
 @Epic("Bookstore API Tests")
 @Feature("Health Endpoint Validations")
@@ -18,7 +20,7 @@ public class HealthCheckAPI extends BaseClass {
     @Severity(SeverityLevel.CRITICAL)
     @Description("This test checks if the /health endpoint returns HTTP status 200.")
     public void shouldReturnStatus200() {
-        Response response = RestAssured.get("/health");
+        Response response = ApiUtils.getRequest("/health");
         Allure.step("Send GET request to /health");
         Assert.assertEquals(response.getStatusCode(), 200, "Expected status code 200");
     }
@@ -28,9 +30,9 @@ public class HealthCheckAPI extends BaseClass {
     @Severity(SeverityLevel.NORMAL)
     @Description("This test checks if the 'status' key is present in the JSON response.")
     public void shouldContainStatusKey() {
-        Response response = RestAssured.get("/health");
+        Response response = ApiUtils.getRequest("/health");
         Allure.step("Send GET request to /health");
-        boolean containsKey = response.jsonPath().getMap("").containsKey("status");
+        boolean containsKey = JsonResponse.of(response).json().has("status");
         Assert.assertTrue(containsKey, "Expected response to contain key: status");
     }
 
@@ -38,10 +40,11 @@ public class HealthCheckAPI extends BaseClass {
     @Story("GET /health - Status Value")
     @Severity(SeverityLevel.CRITICAL)
     @Description("This test checks if the 'status' value returned by /health is 'up'.")
+    @Sla(maxMs = 1000)
     public void shouldReturnStatusValueUp() {
-        Response response = RestAssured.get("/health");
+        Response response = ApiUtils.getRequest("/health");
         Allure.step("Send GET request to /health");
-        String statusValue = response.jsonPath().getString("status");
+        String statusValue = JsonResponse.of(response).getString("status");
         Assert.assertEquals(statusValue, "up", "Expected status value to be 'up'");
     }
 
@@ -50,7 +53,7 @@ public class HealthCheckAPI extends BaseClass {
     @Severity(SeverityLevel.MINOR)
     @Description("This test checks if POST requests to /health are not allowed (405).")
     public void shouldNotAllowPostMethod() {
-        Response response = RestAssured.post("/health");
+        Response response = ApiUtils.postRequest("/health", "");
         Allure.step("Send POST request to /health");
         Assert.assertEquals(response.getStatusCode(), 405, "Expected status code 405 for POST method");
     }
@@ -60,7 +63,7 @@ public class HealthCheckAPI extends BaseClass {
     @Severity(SeverityLevel.NORMAL)
     @Description("This test checks if an invalid health endpoint returns HTTP status 404.")
     public void shouldReturn404ForInvalidEndpoint() {
-        Response response = RestAssured.get("/healthz");
+        Response response = ApiUtils.getRequest("/healthz");
         Allure.step("Send GET request to /healthz (invalid endpoint)");
         Assert.assertEquals(response.getStatusCode(), 404, "Expected status code 404 for invalid endpoint");
     }
@@ -0,0 +1,210 @@
+package com.pacakge.rest_assured_framework;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.rest_assured.common.Payloads;
+import com.rest_assured.schema.JsonSchema;
+import com.rest_assured.schema.JsonSchemas;
+import com.rest_assured.schema.ValidationResult;
+
+import io.qameta.allure.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+@Epic("Bookstore API Tests")
+@Feature("JSON Schema Validation")
+public class JsonSchemaTest {
+
+    // src/test/resources/schemas/test-shelf.json: one property per keyword, books via $ref to book.json
+    private static final JsonSchema SHELF = JsonSchemas.get("test-shelf");
+
+    private static final String BOOK = "{'id':1,'name':'Book_1','author':'Author_1','published_year':2001,'book_summary':'Summary'}";
+
+    @Test(priority = 1, description = "Verify a document using every keyword validates")
+    @Story("JsonSchema - Valid Documents")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("A shelf that satisfies every keyword of the test schema has no violations.")
+    public void shouldAcceptValidDocument() {
+        assertValid(SHELF.validate(shelf()));
+    }
+
+    @Test(priority = 2, description = "Verify type lists accept each listed type and nothing else")
+    @Story("JsonSchema - Type")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("note is string|null: a string and a null pass, an integer does not.")
+    public void shouldCheckTypeLists() {
+        ObjectNode doc = shelf();
+        doc.putNull("note");
+        assertValid(SHELF.validate(doc));
+        doc.put("note", "text");
+        assertValid(SHELF.validate(doc));
+
+        doc.put("note", 5);
+        assertViolations(SHELF.validate(doc), "$.note: expected string|null but was integer");
+    }
+
+    @Test(priority = 3, description = "Verify integers pass as numbers but not the other way round")
+    @Story("JsonSchema - Type")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("rating is a number and accepts 4; count is an integer and rejects 2.5.")
+    public void shouldTellNumbersFromIntegers() {
+        ObjectNode doc = shelf();
+        doc.put("rating", 4);
+        assertValid(SHELF.validate(doc));
+
+        doc.put("count", 2.5);
+        assertViolations(SHELF.validate(doc), "$.count: expected integer but was number");
+    }
+
+    @Test(priority = 4, description = "Verify wrong top-level and nested types are reported")
+    @Story("JsonSchema - Type")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("An array where an object is expected, and a string where an array is expected.")
+    public void shouldRejectWrongTypes() {
+        assertViolations(SHELF.validate(json("[]")), "$: expected object but was array");
+
+        ObjectNode doc = shelf();
+        doc.put("books", "none");
+        assertViolations(SHELF.validate(doc), "$.books: expected array but was string");
+    }
+
+    @Test(priority = 5, description = "Verify string and numeric enums")
+    @Story("JsonSchema - Enum")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("health.json allows only status 'up'; the shelf's size allows only 1, 2 or 3.")
+    public void shouldCheckEnums() {
+        JsonSchema health = JsonSchemas.get("health");
+        assertValid(health.validate(json("{'status':'up'}")));
+        assertViolations(health.validate(json("{'status':'down'}")), "$.status: \"down\" is not one of [up]");
+
+        ObjectNode doc = shelf();
+        doc.put("size", 3);
+        assertValid(SHELF.validate(doc));
+        doc.put("size", 4);
+        Assert.assertEquals(SHELF.validate(doc).getViolations(), 1, "Expected size 4 to be rejected");
+    }
+
+    @Test(priority = 6, description = "Verify $ref applies the referenced schema")
+    @Story("JsonSchema - $ref")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("The shelf's books are checked against book.json, and book-list.json's items are the same schema.")
+    public void shouldFollowRefs() {
+        ObjectNode doc = shelf();
+        ((ObjectNode) doc.get("books").get(0)).remove("author");
+        assertViolations(SHELF.validate(doc), "$.books[0].author: required field is missing");
+
+        JsonSchema bookList = JsonSchemas.get("book-list");
+        assertValid(bookList.validate(json("[" + BOOK + "," + BOOK + "]")));
+        assertViolations(bookList.validate(json("[" + BOOK + ",{'id':0,'name':'N','author':'A','published_year':1,'book_summary':''}]")),
+                "$[1].id: 0 is below minimum 1");
+        assertValid(bookList.items().validate(json(BOOK)));
+    }
+
+    @Test(priority = 7, description = "Verify additionalProperties: false rejects unknown fields")
+    @Story("JsonSchema - additionalProperties")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("The shelf forbids extra fields; book.json leaves additionalProperties at its default and allows them.")
+    public void shouldCheckAdditionalProperties() {
+        ObjectNode doc = shelf();
+        doc.put("extra", true);
+        assertViolations(SHELF.validate(doc), "$.extra: field is not allowed");
+
+        ObjectNode book = (ObjectNode) json(BOOK);
+        book.put("extra", true);
+        assertValid(JsonSchemas.get("book").validate(book));
+    }
+
+    @Test(priority = 8, description = "Verify length, pattern, bounds and item count limits")
+    @Story("JsonSchema - Bounds")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Each limit of the shelf schema is broken once, one violation per document.")
+    public void shouldCheckBounds() {
+        ObjectNode doc = shelf();
+        doc.put("label", "Bookshelf");
+        assertViolations(SHELF.validate(doc), "$.label: length 9 is above maxLength 8");
+
+        doc = shelf();
+        doc.put("label", "shelf");
+        assertViolations(SHELF.validate(doc), "$.label: \"shelf\" does not match ^[A-Z]");
+
+        doc = shelf();
+        doc.put("rating", 5.5);
+        assertViolations(SHELF.validate(doc), "$.rating: 5.5 is above maximum 5");
+
+        doc = shelf();
+        doc.put("rating", -1);
+        assertViolations(SHELF.validate(doc), "$.rating: -1 is below minimum 0");
+
+        doc = shelf();
+        doc.putArray("books");
+        assertViolations(SHELF.validate(doc), "$.books: 0 items, expected 1..2");
+    }
+
+    @Test(priority = 9, description = "Verify violation paths of nested fields and streamed elements")
+    @Story("JsonSchema - Violation Paths")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Missing fields are reported at their own path; streamed elements are reported by their index in the array.")
+    public void shouldReportViolationPaths() {
+        ObjectNode doc = shelf();
+        doc.remove("count");
+        ((ArrayNode) doc.get("books")).addObject().put("id", 2);
+        ValidationResult result = SHELF.validate(doc);
+        Assert.assertEquals(result.getViolations(), 5, result.toString());
+        Assert.assertEquals(result.getMessages(), List.of(
+                "$.count: required field is missing",
+                "$.books[1].name: required field is missing",
+                "$.books[1].author: required field is missing",
+                "$.books[1].published_year: required field is missing",
+                "$.books[1].book_summary: required field is missing"));
+
+        JsonSchema book = JsonSchemas.get("book-list").items();
+        ValidationResult streamed = new ValidationResult();
+        book.validateElement(json(BOOK), 0, streamed);
+        book.validateElement(json("{'id':3,'name':'','author':'A','published_year':2001,'book_summary':'S'}"), 1, streamed);
+        Assert.assertEquals(streamed.getChecked(), 2);
+        assertViolations(streamed, "$[1].name: length 0 is below minLength 1");
+    }
+
+    @Test(priority = 10, description = "Verify only the first violations are kept but all are counted")
+    @Story("JsonSchema - Violation Paths")
+    @Severity(SeverityLevel.MINOR)
+    @Description("A streamed array with more bad elements than ValidationResult keeps messages for.")
+    public void shouldCapViolationMessages() {
+        JsonSchema book = JsonSchemas.get("book-list").items();
+        ValidationResult result = new ValidationResult();
+        for (int i = 0; i < 25; i++) {
+            book.validateElement(json("{'id':0,'name':'N','author':'A','published_year':1,'book_summary':''}"), i, result);
+        }
+        Assert.assertEquals(result.getViolations(), 25);
+        Assert.assertEquals(result.getMessages().size(), 20);
+        Assert.assertTrue(result.toString().endsWith("... 5 more"), result.toString());
+    }
+
+    // A shelf that passes every keyword of test-shelf.json
+    private static ObjectNode shelf() {
+        return (ObjectNode) json("{'label':'Shelf','rating':4.5,'count':2,'note':null,'size':2,'books':[" + BOOK + "]}");
+    }
+
+    // Single quotes keep the documents readable
+    private static JsonNode json(String text) {
+        try {
+            return Payloads.mapper().readTree(text.replace('\'', '"'));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void assertValid(ValidationResult result) {
+        Assert.assertTrue(result.isValid(), result.toString());
+    }
+
+    private static void assertViolations(ValidationResult result, String... messages) {
+        Assert.assertEquals(result.getMessages(), List.of(messages), result.toString());
+    }
+}
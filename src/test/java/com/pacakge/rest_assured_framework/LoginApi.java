@@ -5,7 +5,10 @@ import org.testng.annotations.Test;
 
 import com.project.base.BaseClass;
 import com.rest_assured.common.ApiUtils;
+import com.rest_assured.common.JsonResponse;
 import com.rest_assured.constants.InputConstants;
+import com.rest_assured.schema.JsonSchemas;
+import com.rest_assured.schema.ValidationResult;
 
 import io.qameta.allure.*;
 import io.restassured.response.Response;
@@ -22,12 +25,16 @@ public class LoginApi extends BaseClass {
         String requestBody = "{ \"email\": \"" + InputConstants.USERNAME + "\", \"password\": \"" + InputConstants.PASSWORD + "\" }";
         Response response = ApiUtils.postRequest("/login", requestBody);
 
-        System.out.println("Status Code: " + response.getStatusCode());
-        System.out.println("Response Body: " + response.getBody().asString());
+        JsonResponse json = JsonResponse.of(response);
 
-        Assert.assertEquals(response.getStatusCode(), 200, "Expected 200 OK for valid login");
+        System.out.println("Status Code: " + json.getStatusCode());
+        System.out.println("Response Body: " + json.asString());
 
-        String token = response.jsonPath().getString("access_token");
+        Assert.assertEquals(json.getStatusCode(), 200, "Expected 200 OK for valid login");
+        ValidationResult schema = JsonSchemas.validate("POST /login", json);
+        Assert.assertTrue(schema.isValid(), schema.toString());
+
+        String token = json.getString("access_token");
         Assert.assertNotNull(token, "Token should not be null after successful login");
 
         System.out.println("Extracted token: " + token);
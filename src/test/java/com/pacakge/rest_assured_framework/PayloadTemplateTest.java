@@ -0,0 +1,77 @@
+package com.pacakge.rest_assured_framework;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.rest_assured.common.PayloadTemplate;
+import com.rest_assured.common.Payloads;
+import com.rest_assured.common.RandomDataGenerator;
+import com.rest_assured.model.Book;
+
+import io.qameta.allure.*;
+
+import java.io.IOException;
+
+@Epic("Bookstore API Tests")
+@Feature("Payload Templates")
+public class PayloadTemplateTest {
+
+    private static final String TRICKY_NAME = "The \"Quoted\" \\ Book\n\tüñî €";
+
+    @Test(priority = 1, description = "Verify values land in their fields when named in serialization order")
+    @Story("PayloadTemplate - Field Order")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Names the fields in the order Book serializes them and compares the rendered body with Jackson's encoding.")
+    public void shouldRenderFieldsNamedInPayloadOrder() throws IOException {
+        Book book = RandomDataGenerator.generateRandomBook();
+        byte[] body = PayloadTemplate.of(book, "id", "name").render(42, TRICKY_NAME);
+
+        assertRendered(body, book, 42, TRICKY_NAME);
+    }
+
+    @Test(priority = 2, description = "Verify values land in their fields when named in another order")
+    @Story("PayloadTemplate - Field Order")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Names the fields in reverse serialization order; values still follow the order the fields were named.")
+    public void shouldRenderFieldsNamedInAnyOrder() throws IOException {
+        Book book = RandomDataGenerator.generateRandomBook();
+        byte[] body = PayloadTemplate.of(book, "name", "id").render(TRICKY_NAME, 42);
+
+        assertRendered(body, book, 42, TRICKY_NAME);
+    }
+
+    @Test(priority = 3, description = "Verify every field of a book can be templated in any order")
+    @Story("PayloadTemplate - Field Order")
+    @Severity(SeverityLevel.MINOR)
+    @Description("Templates all five Book fields in a shuffled order, including a null value.")
+    public void shouldRenderAllFieldsInShuffledOrder() throws IOException {
+        PayloadTemplate template = PayloadTemplate.of(new Book(),
+                "book_summary", "published_year", "id", "author", "name");
+        JsonNode json = Payloads.mapper().readTree(template.render(null, 1999, 7, "A \"B\" C", TRICKY_NAME));
+
+        Assert.assertTrue(json.get("book_summary").isNull(), "Expected book_summary to be null");
+        Assert.assertEquals(json.get("published_year").asInt(), 1999);
+        Assert.assertEquals(json.get("id").asInt(), 7);
+        Assert.assertEquals(json.get("author").asText(), "A \"B\" C");
+        Assert.assertEquals(json.get("name").asText(), TRICKY_NAME);
+    }
+
+    @Test(priority = 4, description = "Verify render rejects a wrong number of values",
+            expectedExceptions = IllegalArgumentException.class)
+    @Story("PayloadTemplate - Validation")
+    @Severity(SeverityLevel.MINOR)
+    @Description("A template with two fields must not render with only one value.")
+    public void shouldRejectWrongValueCount() {
+        PayloadTemplate.of(new Book(), "id", "name").render(1);
+    }
+
+    // Same JSON as Jackson would produce for the book with id and name replaced
+    private static void assertRendered(byte[] body, Book book, int id, String name) throws IOException {
+        book.setId(id);
+        book.setName(name);
+        JsonNode expected = Payloads.mapper().readTree(Payloads.toJson(book));
+        JsonNode actual = Payloads.mapper().readTree(body);
+        Assert.assertEquals(actual, expected, "Rendered payload differs from the serialized book");
+    }
+}
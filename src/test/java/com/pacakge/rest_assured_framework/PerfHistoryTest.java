@@ -0,0 +1,132 @@
+package com.pacakge.rest_assured_framework;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.rest_assured.perf.PerfHistory;
+import com.rest_assured.perf.PerfSample;
+
+import io.qameta.allure.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Epic("Bookstore API Tests")
+@Feature("Performance History")
+public class PerfHistoryTest {
+
+    private static final String SERIES = "GET /books/{id}";
+
+    private Path dir;
+    private PerfHistory history;
+
+    @BeforeMethod
+    public void createHistory() throws IOException {
+        dir = Files.createTempDirectory("perf-history-test");
+        history = new PerfHistory(dir);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteHistory() throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test(priority = 1, description = "Verify appended runs read back oldest first")
+    @Story("PerfHistory - Read and Append")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Appends three runs and reads back the last two, every column intact.")
+    public void shouldReadBackLastRuns() throws IOException {
+        for (int run = 1; run <= 3; run++) {
+            history.append(SERIES, sample(run));
+        }
+
+        List<PerfSample> last = history.read(SERIES, 2);
+        Assert.assertEquals(last.size(), 2);
+        assertSample(last.get(0), 2);
+        assertSample(last.get(1), 3);
+        Assert.assertEquals(history.read(SERIES, 10).size(), 3);
+    }
+
+    @Test(priority = 2, description = "Verify series are listed by name and unknown ones read empty")
+    @Story("PerfHistory - Read and Append")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Two series with similar names get separate files; a series never written has no runs.")
+    public void shouldKeepSeriesApart() throws IOException {
+        history.append("GET /books", sample(1));
+        history.append("GET /books/", sample(2));
+
+        Assert.assertEquals(history.series(), List.of("GET /books", "GET /books/"));
+        assertSample(history.read("GET /books", 5).get(0), 1);
+        assertSample(history.read("GET /books/", 5).get(0), 2);
+        Assert.assertTrue(history.read("POST /books", 5).isEmpty(), "Expected no runs for an unknown series");
+    }
+
+    @Test(priority = 3, description = "Verify a row torn by a crash is ignored and then dropped")
+    @Story("PerfHistory - Truncation Recovery")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Cuts the last row short as a crash mid-append would. Reads skip it, and the next append replaces it, keeping rows aligned.")
+    public void shouldDropTornRow() throws IOException {
+        history.append(SERIES, sample(1));
+        history.append(SERIES, sample(2));
+        Path file = onlyFile();
+        Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10}, StandardOpenOption.APPEND);
+
+        Assert.assertEquals(history.read(SERIES, 10).size(), 2, "Torn row must not be read");
+
+        long sizeBefore = Files.size(file) - 10;
+        history.append(SERIES, sample(3));
+        List<PerfSample> runs = history.read(SERIES, 10);
+        Assert.assertEquals(runs.size(), 3);
+        assertSample(runs.get(0), 1);
+        assertSample(runs.get(1), 2);
+        assertSample(runs.get(2), 3);
+        Assert.assertEquals(Files.size(file), sizeBefore + 64, "Torn bytes must be gone, one full row added");
+    }
+
+    @Test(priority = 4, description = "Verify a file that is not a history is rejected",
+            expectedExceptions = RuntimeException.class)
+    @Story("PerfHistory - Truncation Recovery")
+    @Severity(SeverityLevel.MINOR)
+    @Description("A file with the series' name but no PERF header must not be read as runs.")
+    public void shouldRejectForeignFile() throws IOException {
+        history.append(SERIES, sample(1));
+        Files.write(onlyFile(), new byte[]{'J', 'U', 'N', 'K'});
+
+        history.read(SERIES, 1);
+    }
+
+    // Every column derived from the run number, so a shifted row shows up as wrong values
+    private static PerfSample sample(int run) {
+        return new PerfSample(1_000L * run, 100L * run, run + 0.1, run + 0.2, run + 0.3, run + 0.4, run + 0.5, run + 0.6);
+    }
+
+    private static void assertSample(PerfSample sample, int run) {
+        Assert.assertEquals(sample.getTimestamp(), 1_000L * run);
+        Assert.assertEquals(sample.getCount(), 100L * run);
+        Assert.assertEquals(sample.getP50Ms(), run + 0.1);
+        Assert.assertEquals(sample.getP90Ms(), run + 0.2);
+        Assert.assertEquals(sample.getP99Ms(), run + 0.3);
+        Assert.assertEquals(sample.getMaxMs(), run + 0.4);
+        Assert.assertEquals(sample.getMeanMs(), run + 0.5);
+        Assert.assertEquals(sample.getThroughput(), run + 0.6);
+    }
+
+    private Path onlyFile() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            List<Path> all = files.toList();
+            Assert.assertEquals(all.size(), 1, "Expected one history file");
+            return all.get(0);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.pacakge.rest_assured_framework;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.rest_assured.perf.PerfHistory;
+import com.rest_assured.perf.PerfRegression;
+import com.rest_assured.perf.PerfSample;
+
+import io.qameta.allure.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Runs against the shipped defaults: baseline of the last 10 runs, at least 3
+ * of them, threshold 20%, 3 noise widths, minDelta 1 ms.
+ */
+@Epic("Bookstore API Tests")
+@Feature("Performance Regression")
+public class PerfRegressionTest {
+
+    private static final String SERIES = "GET /books/{id}";
+
+    private Path dir;
+    private PerfHistory history;
+    private long clock;
+
+    @BeforeMethod
+    public void createHistory() throws IOException {
+        dir = Files.createTempDirectory("perf-regression-test");
+        history = new PerfHistory(dir);
+        clock = 0;
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteHistory() throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test(priority = 1, description = "Verify the baseline is the median, so one outlier run does not move it")
+    @Story("PerfRegression - Baseline")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Baseline 10, 10, 10, 10, 100 ms: the median is 10 (the mean would be 28), so 30 ms is a regression.")
+    public void shouldUseMedianBaseline() throws IOException {
+        history(10, 10, 10, 10, 100);
+
+        PerfRegression.Finding finding = p50(30);
+        Assert.assertEquals(finding.getBaseline(), 10.0);
+        Assert.assertEquals(finding.getBaselineRuns(), 5);
+        Assert.assertEquals(finding.getVerdict(), PerfRegression.Verdict.REGRESSION);
+    }
+
+    @Test(priority = 2, description = "Verify only the last baselineRuns runs form the baseline")
+    @Story("PerfRegression - Baseline")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Six old runs at 50 ms are followed by ten at 10 ms; only the last ten count.")
+    public void shouldUseLastRunsOnly() throws IOException {
+        history(50, 50, 50, 50, 50, 50, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10);
+
+        PerfRegression.Finding finding = p50(10);
+        Assert.assertEquals(finding.getBaseline(), 10.0);
+        Assert.assertEquals(finding.getBaselineRuns(), 10);
+        Assert.assertEquals(finding.getVerdict(), PerfRegression.Verdict.OK);
+    }
+
+    @Test(priority = 3, description = "Verify a change within the baseline's noise (MAD) is not judged")
+    @Story("PerfRegression - Noise")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("The same 30 ms run against a noisy and a quiet baseline, both with a median of 15 ms.")
+    public void shouldTolerateNoise() throws IOException {
+        // Median 15, MAD 5: three noise widths are about 22 ms, more than the 15 ms change
+        history(10, 20, 10, 20, 10, 20);
+        Assert.assertEquals(p50(30).getVerdict(), PerfRegression.Verdict.OK);
+
+        PerfHistory quiet = new PerfHistory(dir.resolve("quiet"));
+        for (int i = 0; i < 6; i++) {
+            quiet.append(SERIES, sample(++clock, 15));
+        }
+        Assert.assertEquals(p50(quiet, 30).getVerdict(), PerfRegression.Verdict.REGRESSION);
+    }
+
+    @Test(priority = 4, description = "Verify a change below the relative threshold is not a regression")
+    @Story("PerfRegression - Threshold")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Baseline 100 ms with no noise: 115 ms is within 20%, 125 ms is not.")
+    public void shouldApplyThreshold() throws IOException {
+        history(100, 100, 100, 100, 100);
+
+        Assert.assertEquals(p50(115).getVerdict(), PerfRegression.Verdict.OK);
+        Assert.assertEquals(p50(125).getVerdict(), PerfRegression.Verdict.REGRESSION);
+        Assert.assertEquals(p50(75).getVerdict(), PerfRegression.Verdict.IMPROVED);
+    }
+
+    @Test(priority = 5, description = "Verify a tiny absolute change is not a regression however large in percent")
+    @Story("PerfRegression - Threshold")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Baseline 2 ms: 2.8 ms is 40% slower but under minDelta (1 ms); 3.5 ms is a regression.")
+    public void shouldApplyMinDelta() throws IOException {
+        history(2, 2, 2, 2, 2);
+
+        Assert.assertEquals(p50(2.8).getVerdict(), PerfRegression.Verdict.OK);
+        Assert.assertEquals(p50(3.5).getVerdict(), PerfRegression.Verdict.REGRESSION);
+    }
+
+    @Test(priority = 6, description = "Verify nothing is judged with too few baseline runs")
+    @Story("PerfRegression - Baseline")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("With no runs or two runs, even a tenfold slowdown is NO_BASELINE; the third run makes it judged.")
+    public void shouldWaitForBaselineRuns() throws IOException {
+        PerfRegression.Finding empty = p50(100);
+        Assert.assertEquals(empty.getVerdict(), PerfRegression.Verdict.NO_BASELINE);
+        Assert.assertTrue(Double.isNaN(empty.getBaseline()), "Expected no baseline without runs");
+
+        history(10, 10);
+        PerfRegression.Finding two = p50(100);
+        Assert.assertEquals(two.getVerdict(), PerfRegression.Verdict.NO_BASELINE);
+        Assert.assertEquals(two.getBaseline(), 10.0);
+
+        history(10);
+        Assert.assertEquals(p50(100).getVerdict(), PerfRegression.Verdict.REGRESSION);
+    }
+
+    @Test(priority = 7, description = "Verify a run already appended to the history is not its own baseline")
+    @Story("PerfRegression - Baseline")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Only rows older than the current sample count, so comparing after appending gives the same verdict.")
+    public void shouldIgnoreCurrentRunInHistory() throws IOException {
+        history(10, 10, 10);
+        PerfSample current = sample(++clock, 30);
+        history.append(SERIES, current);
+
+        PerfRegression regression = PerfRegression.compare(history, Map.of(SERIES, current));
+        PerfRegression.Finding finding = find(regression, "p50");
+        Assert.assertEquals(finding.getBaselineRuns(), 3);
+        Assert.assertEquals(finding.getVerdict(), PerfRegression.Verdict.REGRESSION);
+        Assert.assertTrue(regression.hasRegressions(), regression.report());
+    }
+
+    @Test(priority = 8, description = "Verify lower throughput is a regression and higher is an improvement")
+    @Story("PerfRegression - Throughput")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Throughput is judged the other way round from latency.")
+    public void shouldJudgeThroughputInverted() throws IOException {
+        for (int i = 0; i < 5; i++) {
+            history.append(SERIES, new PerfSample(++clock, 100, 10, 10, 10, 10, 10, 200));
+        }
+
+        Assert.assertEquals(find(compare(new PerfSample(clock + 1, 100, 10, 10, 10, 10, 10, 100)), "throughput").getVerdict(),
+                PerfRegression.Verdict.REGRESSION);
+        Assert.assertEquals(find(compare(new PerfSample(clock + 1, 100, 10, 10, 10, 10, 10, 300)), "throughput").getVerdict(),
+                PerfRegression.Verdict.IMPROVED);
+    }
+
+    // Appends one run per p50 value to the default history
+    private void history(double... p50s) throws IOException {
+        for (double p50 : p50s) {
+            history.append(SERIES, sample(++clock, p50));
+        }
+    }
+
+    private PerfRegression.Finding p50(double current) throws IOException {
+        return p50(history, current);
+    }
+
+    private PerfRegression.Finding p50(PerfHistory source, double current) throws IOException {
+        return find(PerfRegression.compare(source, Map.of(SERIES, sample(clock + 1, current))), "p50");
+    }
+
+    private PerfRegression compare(PerfSample current) throws IOException {
+        return PerfRegression.compare(history, Map.of(SERIES, current));
+    }
+
+    // Enough calls for p99 to be judged too; no throughput, so only latencies are
+    private static PerfSample sample(long timestamp, double p50) {
+        return new PerfSample(timestamp, 100, p50, p50, p50, p50, p50, 0);
+    }
+
+    private static PerfRegression.Finding find(PerfRegression regression, String metric) {
+        for (PerfRegression.Finding finding : regression.getFindings()) {
+            if (finding.getMetric().equals(metric)) {
+                return finding;
+            }
+        }
+        throw new AssertionError("No " + metric + " finding in\n" + regression.report());
+    }
+}
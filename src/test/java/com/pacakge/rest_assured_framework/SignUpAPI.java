@@ -1,6 +1,7 @@
 package com.pacakge.rest_assured_framework;
 
 import com.rest_assured.common.SignUpUser;
+import com.rest_assured.common.JsonResponse;
 import com.project.base.BaseClass;
 import com.rest_assured.common.RandomDataGenerator;
 import com.rest_assured.constants.InputConstants;
@@ -35,29 +36,31 @@ public class SignUpAPI extends BaseClass {
     }
 
     private void assertResponse(Response response, int expectedStatus, String expectedMessageContains) {
-        System.out.println("====== API Response ======");
-        System.out.println("Status Code: " + response.getStatusCode());
-        System.out.println("Response Body:\n" + response.asPrettyString());
+        // Body is read and parsed once for every check below
+        JsonResponse json = JsonResponse.of(response);
 
-        Assert.assertEquals(response.getStatusCode(), expectedStatus,
-                "Unexpected status code. Response: " + response.asPrettyString());
+        // The body is logged by RequestLogger and pretty-printed here only if the status check fails
+        System.out.println("Status Code: " + json.getStatusCode());
+
+        if (json.getStatusCode() != expectedStatus) {
+            Assert.fail("Unexpected status code " + json.getStatusCode() + ", expected " + expectedStatus
+                    + ". Response: " + json.asPrettyString());
+        }
 
         String message;
-        if (response.getBody().asString().contains("message")) {
-            message = response.jsonPath().getString("message");
-        } else if (response.getBody().asString().contains("detail")) {
-            try {
-                message = response.jsonPath().getString("detail");
-            } catch (Exception e) {
-                message = response.jsonPath().get("detail").toString();
-            }
+        if (json.has("message")) {
+            message = json.getString("message");
+        } else if (json.has("detail")) {
+            message = json.getString("detail");
         } else {
-            message = response.getBody().asString();
+            message = json.asString();
         }
 
         System.out.println("Extracted Message: " + message);
 
-        Assert.assertNotNull(message, "Message field is null in response: " + response.asPrettyString());
+        if (message == null) {
+            Assert.fail("Message field is null in response: " + json.asPrettyString());
+        }
         Assert.assertTrue(message.toLowerCase().contains(expectedMessageContains.toLowerCase()),
                 "Expected message to contain '" + expectedMessageContains + "' but got: " + message);
     }
@@ -2,8 +2,12 @@ package com.pacakge.rest_assured_framework;
 
 import com.project.base.BaseClass;
 import com.rest_assured.common.ApiUtils;
+import com.rest_assured.common.BookFixtures;
+import com.rest_assured.common.JsonResponse;
+import com.rest_assured.common.Payloads;
 import com.rest_assured.common.RandomDataGenerator;
 import com.rest_assured.common.TokenManager;
+import com.rest_assured.model.Book;
 import io.qameta.allure.*;
 import io.restassured.response.Response;
 import org.json.JSONObject;
@@ -22,24 +26,25 @@ public class UpdateBookApi extends BaseClass {
     @Story("PUT /books/{id} - Update a book entry")
     public void shouldUpdateBookSuccessfully() {
         String token = TokenManager.getToken();
-        int existingBookId = 1; // TODO: Replace with a dynamically fetched ID
-
-        JSONObject payload = new JSONObject();
-        payload.put("name", RandomDataGenerator.generateRandomName());
-        payload.put("author", RandomDataGenerator.generateRandomAuthor());
-        payload.put("published_year", RandomDataGenerator.generateRandomPublishedYear());
-        payload.put("book_summary", RandomDataGenerator.generateRandomSummary());
-        payload.put("id", existingBookId);
-
-        Response response = ApiUtils.putRequest(
-                UPDATE_BOOK_ENDPOINT.replace("{id}", String.valueOf(existingBookId)),
-                payload.toString(),
-                token
-        );
-
-        Assert.assertEquals(response.getStatusCode(), 200, "Status code mismatch");
-        Assert.assertEquals(response.jsonPath().getString("name"), payload.getString("name"), "Book name mismatch");
-        Assert.assertEquals(response.jsonPath().getString("author"), payload.getString("author"), "Author mismatch");
+        int existingBookId = BookFixtures.lease();
+
+        try {
+            Book book = RandomDataGenerator.generateRandomBook();
+            book.setId(existingBookId);
+
+            Response response = ApiUtils.putRequest(
+                    UPDATE_BOOK_ENDPOINT.replace("{id}", String.valueOf(existingBookId)),
+                    Payloads.toJson(book),
+                    token
+            );
+
+            Assert.assertEquals(response.getStatusCode(), 200, "Status code mismatch");
+            JsonResponse json = JsonResponse.of(response);
+            Assert.assertEquals(json.getString("name"), book.getName(), "Book name mismatch");
+            Assert.assertEquals(json.getString("author"), book.getAuthor(), "Author mismatch");
+        } finally {
+            BookFixtures.release(existingBookId);
+        }
     }
 
     @Test(priority = 2, groups = {"negative"})
@@ -0,0 +1,123 @@
+package com.rest_assured.common;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.qameta.allure.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+// In RateLimiter's package to reach reserve() and withPermits() without a real clock or backend
+@Epic("Bookstore API Tests")
+@Feature("Rate Limiting")
+public class RateLimiterTest {
+
+    private static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test(priority = 1, description = "Verify a full bucket lets burst requests through, then one per interval")
+    @Story("RateLimiter - Rate and Burst")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("10 req/s with burst 3, all requests at the same instant: three go at once, the rest 100 ms apart.")
+    public void shouldSpaceRequestsAfterBurst() {
+        RateLimiter limiter = new RateLimiter("test", 10, 3, 0);
+        long t0 = System.nanoTime();
+
+        for (int i = 0; i < 3; i++) {
+            Assert.assertTrue(limiter.reserve(t0) <= t0, "Request " + i + " of the burst should not wait");
+        }
+        for (int i = 1; i <= 5; i++) {
+            Assert.assertEquals(limiter.reserve(t0), t0 + i * INTERVAL, "Request " + (i + 2) + " after the burst");
+        }
+    }
+
+    @Test(priority = 2, description = "Verify the bucket refills after a pause, up to burst and no further")
+    @Story("RateLimiter - Rate and Burst")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("After a 10 s pause only burst (3) requests go at once, not the 100 the pause would pay for.")
+    public void shouldRefillUpToBurst() {
+        RateLimiter limiter = new RateLimiter("test", 10, 3, 0);
+        long t0 = System.nanoTime();
+        for (int i = 0; i < 6; i++) {
+            limiter.reserve(t0);
+        }
+
+        long t1 = t0 + TimeUnit.SECONDS.toNanos(10);
+        for (int i = 0; i < 3; i++) {
+            Assert.assertTrue(limiter.reserve(t1) <= t1, "Request " + i + " after the pause should not wait");
+        }
+        Assert.assertEquals(limiter.reserve(t1), t1 + INTERVAL);
+    }
+
+    @Test(priority = 3, description = "Verify requests spread over time pass at the configured rate without waiting")
+    @Story("RateLimiter - Rate and Burst")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Burst 1: requests exactly one interval apart never wait; one arriving early waits for its slot.")
+    public void shouldPassRequestsAtRate() {
+        RateLimiter limiter = new RateLimiter("test", 10, 1, 0);
+        long t0 = System.nanoTime();
+
+        for (int i = 0; i < 10; i++) {
+            long now = t0 + i * INTERVAL;
+            Assert.assertTrue(limiter.reserve(now) <= now, "Request " + i + " at the rate should not wait");
+        }
+        long early = t0 + 10 * INTERVAL - INTERVAL / 2;
+        Assert.assertEquals(limiter.reserve(early), t0 + 10 * INTERVAL);
+    }
+
+    @Test(priority = 4, description = "Verify a request held on its endpoint holds no environment permit")
+    @Story("RateLimiter - In-Flight Limits")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("/signup allows 1 in flight and the environment 2. While one /signup is in flight and a second waits, a /books call must still get the environment's other permit.")
+    public void shouldNotHoldEnvironmentPermitWhileQueuedOnEndpoint() throws Exception {
+        RateLimiter environment = new RateLimiter("test", 0, 0, 2);
+        RateLimiter signup = new RateLimiter("test /signup", 0, 0, 1);
+        RateLimiter books = new RateLimiter("test /books", 0, 0, 0);
+
+        CountDownLatch firstSent = new CountDownLatch(1);
+        CountDownLatch firstDone = new CountDownLatch(1);
+        Thread first = new Thread(() -> RateLimiter.withPermits(signup, environment, () -> {
+            firstSent.countDown();
+            return await(firstDone);
+        }));
+        first.start();
+        Assert.assertTrue(firstSent.await(5, TimeUnit.SECONDS), "First /signup was not sent");
+
+        AtomicReference<String> second = new AtomicReference<>();
+        Thread queued = new Thread(() -> second.set(RateLimiter.withPermits(signup, environment, () -> "second")));
+        queued.start();
+        waitUntilParked(queued);
+
+        try {
+            String other = CompletableFuture.supplyAsync(() -> RateLimiter.withPermits(books, environment, () -> "books"))
+                    .get(5, TimeUnit.SECONDS);
+            Assert.assertEquals(other, "books");
+            Assert.assertNull(second.get(), "Second /signup should still wait for its endpoint");
+        } finally {
+            firstDone.countDown();
+        }
+        queued.join(5_000);
+        first.join(5_000);
+        Assert.assertEquals(second.get(), "second");
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    // Returns once the thread is blocked, i.e. queued on the /signup semaphore
+    private static void waitUntilParked(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.WAITING) {
+            Assert.assertTrue(System.nanoTime() < deadline, "Second /signup never queued; state " + thread.getState());
+            Thread.sleep(1);
+        }
+    }
+}